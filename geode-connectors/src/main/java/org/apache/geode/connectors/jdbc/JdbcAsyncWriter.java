@@ -15,6 +15,7 @@
 package org.apache.geode.connectors.jdbc;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.LongAdder;
 
@@ -25,6 +26,7 @@ import org.apache.geode.annotations.Experimental;
 import org.apache.geode.cache.asyncqueue.AsyncEvent;
 import org.apache.geode.cache.asyncqueue.AsyncEventListener;
 import org.apache.geode.connectors.jdbc.internal.AbstractJdbcCallback;
+import org.apache.geode.connectors.jdbc.internal.EntryWrite;
 import org.apache.geode.connectors.jdbc.internal.SqlHandler;
 import org.apache.geode.internal.cache.InternalCache;
 import org.apache.geode.logging.internal.log4j.api.LogService;
@@ -78,16 +80,47 @@ public class JdbcAsyncWriter extends AbstractJdbcCallback implements AsyncEventL
     return true;
   }
 
-  @SuppressWarnings({"rawtypes", "unchecked"})
+  @SuppressWarnings("rawtypes")
   private void processEventsList(List<AsyncEvent> events) {
+    List<AsyncEvent> eventsToWrite = new ArrayList<>(events.size());
+    List<EntryWrite> writes = new ArrayList<>(events.size());
     for (AsyncEvent event : events) {
       if (eventCanBeIgnored(event.getOperation())) {
         changeIgnoredEvents(1);
         continue;
       }
       try {
-        getSqlHandler().write(event.getRegion(), event.getOperation(), event.getKey(),
-            getPdxInstance(event));
+        writes.add(new EntryWrite(event.getOperation(), event.getKey(), getPdxInstance(event)));
+        eventsToWrite.add(event);
+      } catch (RuntimeException ex) {
+        changeFailedEvents(1);
+        logger.error("Exception processing event {}", event, ex);
+      }
+    }
+
+    if (writes.size() > 1) {
+      try {
+        getSqlHandler().write(writes);
+        changeSuccessfulEvents(writes.size());
+        return;
+      } catch (SQLException | RuntimeException ex) {
+        // nothing was committed, fall back to writing each event on its own so that only the
+        // events that really fail are reported as failed
+        logger.debug("Batch write of {} events failed, writing them individually",
+            writes.size(), ex);
+      }
+    }
+    processEventsIndividually(eventsToWrite, writes);
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private void processEventsIndividually(List<AsyncEvent> events, List<EntryWrite> writes) {
+    for (int i = 0; i < events.size(); i++) {
+      AsyncEvent event = events.get(i);
+      EntryWrite write = writes.get(i);
+      try {
+        getSqlHandler().write(event.getRegion(), write.getOperation(), write.getKey(),
+            write.getValue());
         changeSuccessfulEvents(1);
       } catch (SQLException | RuntimeException ex) {
         changeFailedEvents(1);
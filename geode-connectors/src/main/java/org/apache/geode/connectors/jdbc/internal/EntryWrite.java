@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.connectors.jdbc.internal;
+
+import org.apache.geode.cache.Operation;
+import org.apache.geode.pdx.PdxInstance;
+
+/**
+ * A single entry operation to be written to the database as part of a batch by
+ * {@link SqlHandler#write(java.util.List)}.
+ */
+public class EntryWrite {
+  private final Operation operation;
+  private final Object key;
+  private final PdxInstance value;
+
+  public EntryWrite(Operation operation, Object key, PdxInstance value) {
+    this.operation = operation;
+    this.key = key;
+    this.value = value;
+  }
+
+  public Operation getOperation() {
+    return operation;
+  }
+
+  public Object getKey() {
+    return key;
+  }
+
+  public PdxInstance getValue() {
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return "EntryWrite{operation=" + operation + ", key=" + key + "}";
+  }
+}
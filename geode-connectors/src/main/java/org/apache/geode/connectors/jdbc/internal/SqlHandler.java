@@ -18,6 +18,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
@@ -250,6 +251,111 @@ public class SqlHandler {
     }
   }
 
+  /**
+   * Writes the given entry operations using one connection and one transaction. Consecutive
+   * operations that map to the same SQL statement are sent to the database with a single JDBC
+   * batch instead of one round trip each. As with {@link #write(Region, Operation, Object,
+   * PdxInstance)}, a create or update that does not change a row is retried with the opposite
+   * operation.
+   *
+   * <p>
+   * If any operation fails the transaction is rolled back and the exception is thrown, so none of
+   * the operations have been applied and the caller may retry them individually.
+   */
+  public void write(List<EntryWrite> writes) throws SQLException {
+    List<EntryColumnData> entryColumnDataList = new ArrayList<>(writes.size());
+    List<String> sqlStrings = new ArrayList<>(writes.size());
+    for (EntryWrite write : writes) {
+      Operation operation = write.getOperation();
+      if (write.getValue() == null && !operation.isDestroy()) {
+        throw new IllegalArgumentException(
+            "PdxInstance cannot be null for non-destroy operations");
+      }
+      EntryColumnData entryColumnData =
+          getEntryColumnData(tableMetaData, write.getKey(), write.getValue(), operation);
+      entryColumnDataList.add(entryColumnData);
+      sqlStrings.add(getSqlString(tableMetaData, entryColumnData, operation));
+    }
+
+    try (Connection connection = getConnection()) {
+      boolean autoCommit = connection.getAutoCommit();
+      if (autoCommit) {
+        connection.setAutoCommit(false);
+      }
+      try {
+        int start = 0;
+        while (start < writes.size()) {
+          int end = start + 1;
+          while (end < writes.size() && sqlStrings.get(end).equals(sqlStrings.get(start))) {
+            end++;
+          }
+          executeWriteBatch(connection, sqlStrings.get(start), writes.subList(start, end),
+              entryColumnDataList.subList(start, end));
+          start = end;
+        }
+        connection.commit();
+      } catch (SQLException | RuntimeException ex) {
+        try {
+          connection.rollback();
+        } catch (SQLException rollbackEx) {
+          ex.addSuppressed(rollbackEx);
+        }
+        throw ex;
+      } finally {
+        if (autoCommit) {
+          connection.setAutoCommit(true);
+        }
+      }
+    }
+  }
+
+  private void executeWriteBatch(Connection connection, String sqlStr, List<EntryWrite> writes,
+      List<EntryColumnData> entryColumnDataList) throws SQLException {
+    if (logger.isDebugEnabled()) {
+      logger.debug("Got SQL string:{} for batch of {} writes", sqlStr, writes.size());
+    }
+    int[] updateCounts;
+    try (PreparedStatement statement = connection.prepareStatement(sqlStr)) {
+      for (int i = 0; i < writes.size(); i++) {
+        setValuesInStatement(statement, entryColumnDataList.get(i),
+            writes.get(i).getOperation());
+        statement.addBatch();
+      }
+      updateCounts = statement.executeBatch();
+    }
+
+    for (int i = 0; i < writes.size(); i++) {
+      Operation operation = writes.get(i).getOperation();
+      // Destroy action not guaranteed to modify any database rows
+      if (operation.isDestroy() || updateCounts[i] > 0) {
+        continue;
+      }
+      EntryColumnData entryColumnData = entryColumnDataList.get(i);
+      Operation upsertOp = getOppositeOperation(operation);
+      if (updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+        // the driver does not say whether a row changed, so write the entry again on its own as
+        // an update, which is safe to repeat, and insert it if that changes no row
+        if (executeSingleWrite(connection, entryColumnData, Operation.UPDATE) > 0) {
+          continue;
+        }
+        upsertOp = Operation.CREATE;
+      }
+      int updateCount = executeSingleWrite(connection, entryColumnData, upsertOp);
+      if (updateCount <= 0) {
+        throw new SQLException(
+            "Write of " + writes.get(i) + " did not change any rows in the database");
+      }
+    }
+  }
+
+  private int executeSingleWrite(Connection connection, EntryColumnData entryColumnData,
+      Operation operation) throws SQLException {
+    try (PreparedStatement statement =
+        getPreparedStatement(connection, tableMetaData, entryColumnData, operation)) {
+      return executeWriteStatement(statement, entryColumnData, operation);
+    }
+  }
+
   private Operation getOppositeOperation(Operation operation) {
     return operation.isUpdate() ? Operation.CREATE : Operation.UPDATE;
   }
@@ -17,12 +17,16 @@ package org.apache.geode.connectors.jdbc;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -98,11 +102,46 @@ public class JdbcAsyncWriterTest {
 
     writer.processEvents(events);
 
+    verify(sqlHandler, times(1)).write(anyList());
+    verify(sqlHandler, times(0)).write(any(), any(), any(), any());
+    assertThat(writer.getSuccessfulEvents()).isEqualTo(3);
+    assertThat(writer.getTotalEvents()).isEqualTo(3);
+  }
+
+  @Test
+  public void writesMultipleProvidedEventsIndividuallyIfBatchWriteFails() throws Exception {
+    doThrow(new SQLException("batch failed")).when(sqlHandler).write(anyList());
+    List<AsyncEvent> events = new ArrayList<>();
+    events.add(createMockEvent());
+    events.add(createMockEvent());
+    events.add(createMockEvent());
+
+    writer.processEvents(events);
+
+    verify(sqlHandler, times(1)).write(anyList());
     verify(sqlHandler, times(3)).write(any(), any(), any(), any());
     assertThat(writer.getSuccessfulEvents()).isEqualTo(3);
+    assertThat(writer.getFailedEvents()).isEqualTo(0);
     assertThat(writer.getTotalEvents()).isEqualTo(3);
   }
 
+  @Test
+  public void countsOnlyFailingEventsAsFailedIfBatchWriteFails() throws Exception {
+    doThrow(new SQLException("batch failed")).when(sqlHandler).write(anyList());
+    AsyncEvent failingEvent = createMockEvent(Operation.UPDATE);
+    doThrow(new SQLException("update failed")).when(sqlHandler).write(any(),
+        eq(Operation.UPDATE), any(), any());
+    List<AsyncEvent> events = new ArrayList<>();
+    events.add(createMockEvent());
+    events.add(failingEvent);
+
+    writer.processEvents(events);
+
+    assertThat(writer.getSuccessfulEvents()).isEqualTo(1);
+    assertThat(writer.getFailedEvents()).isEqualTo(1);
+    assertThat(writer.getTotalEvents()).isEqualTo(2);
+  }
+
   private AsyncEvent createMockEvent(Operation op) {
     AsyncEvent event = mock(AsyncEvent.class);
     when(event.getOperation()).thenReturn(op);
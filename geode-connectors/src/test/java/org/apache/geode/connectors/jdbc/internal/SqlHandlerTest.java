@@ -20,6 +20,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -29,6 +30,7 @@ import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
@@ -1032,6 +1034,137 @@ public class SqlHandlerTest {
                 + "\" must be a PdxInstance created with PdxInstanceFactory.neverDeserialize");
   }
 
+  @Test
+  public void batchWriteSendsConsecutiveSameStatementsAsOneBatch() throws Exception {
+    when(statement.executeBatch()).thenReturn(new int[] {1, 1});
+    when(connection.getAutoCommit()).thenReturn(true);
+    when(value.getFieldNames()).thenReturn(Collections.emptyList());
+
+    handler.write(Arrays.asList(new EntryWrite(Operation.UPDATE, "key1", value),
+        new EntryWrite(Operation.UPDATE, "key2", value)));
+
+    verify(connection, times(1)).prepareStatement(any());
+    verify(statement).setObject(1, "key1");
+    verify(statement).setObject(1, "key2");
+    verify(statement, times(2)).addBatch();
+    verify(statement, times(1)).executeBatch();
+    verify(statement, never()).executeUpdate();
+    verify(statement).close();
+    verify(connection).setAutoCommit(false);
+    verify(connection).commit();
+    verify(connection).setAutoCommit(true);
+    verify(connection, never()).rollback();
+  }
+
+  @Test
+  public void batchWriteUsesSeparateBatchesForDifferentStatements() throws Exception {
+    when(statement.executeBatch()).thenReturn(new int[] {1});
+    when(value.getFieldNames()).thenReturn(Collections.emptyList());
+
+    handler.write(Arrays.asList(new EntryWrite(Operation.UPDATE, "key1", value),
+        new EntryWrite(Operation.DESTROY, "key2", null),
+        new EntryWrite(Operation.UPDATE, "key3", value)));
+
+    verify(connection, times(3)).prepareStatement(any());
+    verify(statement, times(3)).executeBatch();
+    verify(connection).commit();
+  }
+
+  @Test
+  public void batchWriteInsertsWhenUpdateChangesNoRow() throws Exception {
+    when(statement.executeBatch()).thenReturn(new int[] {1, 0});
+    PreparedStatement insertStatement = mock(PreparedStatement.class);
+    when(insertStatement.executeUpdate()).thenReturn(1);
+    when(connection.prepareStatement(any())).thenReturn(statement).thenReturn(insertStatement);
+    when(value.getFieldNames()).thenReturn(Collections.emptyList());
+
+    handler.write(Arrays.asList(new EntryWrite(Operation.UPDATE, "key1", value),
+        new EntryWrite(Operation.UPDATE, "key2", value)));
+
+    verify(insertStatement).setObject(1, "key2");
+    verify(insertStatement).executeUpdate();
+    verify(insertStatement).close();
+    verify(connection).commit();
+  }
+
+  @Test
+  public void batchWriteRepeatsWritesWhoseUpdateCountIsUnknown() throws Exception {
+    when(statement.executeBatch())
+        .thenReturn(new int[] {Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO});
+    PreparedStatement repeatStatement1 = mock(PreparedStatement.class);
+    when(repeatStatement1.executeUpdate()).thenReturn(1);
+    PreparedStatement repeatStatement2 = mock(PreparedStatement.class);
+    when(repeatStatement2.executeUpdate()).thenReturn(0);
+    PreparedStatement insertStatement = mock(PreparedStatement.class);
+    when(insertStatement.executeUpdate()).thenReturn(1);
+    when(connection.prepareStatement(any())).thenReturn(statement).thenReturn(repeatStatement1)
+        .thenReturn(repeatStatement2).thenReturn(insertStatement);
+    when(value.getFieldNames()).thenReturn(Collections.emptyList());
+
+    handler.write(Arrays.asList(new EntryWrite(Operation.UPDATE, "key1", value),
+        new EntryWrite(Operation.UPDATE, "key2", value)));
+
+    verify(connection, times(4)).prepareStatement(any());
+    verify(repeatStatement1).setObject(1, "key1");
+    verify(repeatStatement1).executeUpdate();
+    verify(repeatStatement2).setObject(1, "key2");
+    verify(repeatStatement2).executeUpdate();
+    verify(insertStatement).setObject(1, "key2");
+    verify(insertStatement).executeUpdate();
+    verify(connection).commit();
+  }
+
+  @Test
+  public void batchWriteRollsBackAndThrowsWhenNeitherUpdateNorInsertChangesRow()
+      throws Exception {
+    when(statement.executeBatch()).thenReturn(new int[] {0});
+    when(statement.executeUpdate()).thenReturn(0);
+    when(value.getFieldNames()).thenReturn(Collections.emptyList());
+
+    assertThatThrownBy(() -> handler.write(
+        Collections.singletonList(new EntryWrite(Operation.UPDATE, "key1", value))))
+            .isInstanceOf(SQLException.class);
+
+    verify(connection, never()).commit();
+    verify(connection).rollback();
+  }
+
+  @Test
+  public void batchWriteRollsBackAndThrowsWhenBatchFails() throws Exception {
+    when(statement.executeBatch()).thenThrow(new SQLException("batch failed"));
+    when(value.getFieldNames()).thenReturn(Collections.emptyList());
+
+    assertThatThrownBy(() -> handler.write(
+        Collections.singletonList(new EntryWrite(Operation.CREATE, "key1", value))))
+            .isInstanceOf(SQLException.class).hasMessage("batch failed");
+
+    verify(connection, never()).commit();
+    verify(connection).rollback();
+    verify(connection).close();
+  }
+
+  @Test
+  public void batchWriteKeepsOriginalExceptionWhenRollbackFails() throws Exception {
+    SQLException batchException = new SQLException("batch failed");
+    SQLException rollbackException = new SQLException("rollback failed");
+    when(statement.executeBatch()).thenThrow(batchException);
+    doThrow(rollbackException).when(connection).rollback();
+    when(value.getFieldNames()).thenReturn(Collections.emptyList());
+
+    assertThatThrownBy(() -> handler.write(
+        Collections.singletonList(new EntryWrite(Operation.CREATE, "key1", value))))
+            .isSameAs(batchException).hasSuppressedException(rollbackException);
+
+    verify(connection).close();
+  }
+
+  @Test
+  public void batchWriteThrowsIfValueIsNullAndNotDoingDestroy() {
+    assertThatThrownBy(() -> handler.write(
+        Collections.singletonList(new EntryWrite(Operation.UPDATE, "key1", null))))
+            .isInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   public void handlesSQLExceptionFromGetConnection() throws Exception {
     doThrow(new SQLException("test exception")).when(dataSource).getConnection();
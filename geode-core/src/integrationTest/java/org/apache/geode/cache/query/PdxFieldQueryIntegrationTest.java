@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.query;
+
+import static org.apache.geode.cache.Region.SEPARATOR;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.internal.cache.InternalCache;
+import org.apache.geode.pdx.PdxInstance;
+import org.apache.geode.test.junit.categories.OQLQueryTest;
+import org.apache.geode.test.junit.rules.ServerStarterRule;
+
+@Category(OQLQueryTest.class)
+public class PdxFieldQueryIntegrationTest {
+
+  private static final String CLASS_NAME = "org.apache.geode.test.Trade";
+
+  @Rule
+  public ServerStarterRule serverRule =
+      new ServerStarterRule().withPDXReadSerialized().withAutoStart();
+
+  private QueryService queryService;
+
+  @Before
+  public void setUp() {
+    InternalCache cache = serverRule.getCache();
+    Region<Integer, PdxInstance> region =
+        cache.<Integer, PdxInstance>createRegionFactory(RegionShortcut.REPLICATE).create("trades");
+    for (int i = 0; i < 100; i++) {
+      region.put(i, cache.createPdxInstanceFactory(CLASS_NAME)
+          .writeString("status", i % 2 == 0 ? "open" : "closed")
+          .writeInt("amount", i * 10)
+          .create());
+    }
+    // a second version of the type, without the amount field
+    for (int i = 100; i < 110; i++) {
+      region.put(i, cache.createPdxInstanceFactory(CLASS_NAME)
+          .writeString("status", "open")
+          .writeString("trader", "trader" + i)
+          .create());
+    }
+    queryService = cache.getQueryService();
+  }
+
+  @Test
+  public void countFiltersOnStringAndIntFields() throws Exception {
+    assertThat(execute("select count(*) from " + SEPARATOR
+        + "trades where status = 'open' and amount > 100")).containsExactly(44);
+  }
+
+  @Test
+  public void fieldMissingFromTypeVersionReadsDefaultValue() throws Exception {
+    assertThat(execute("select count(*) from " + SEPARATOR + "trades where amount = 0"))
+        .containsExactly(11);
+  }
+
+  @Test
+  public void projectionReadsStringFields() throws Exception {
+    assertThat(execute("select distinct t.status from " + SEPARATOR + "trades t"))
+        .containsExactlyInAnyOrder("open", "closed");
+  }
+
+  private SelectResults<?> execute(String query) throws Exception {
+    return (SelectResults<?>) queryService.newQuery(query).execute();
+  }
+}
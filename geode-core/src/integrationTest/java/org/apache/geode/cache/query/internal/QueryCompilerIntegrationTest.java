@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.query.internal;
+
+import static org.apache.geode.cache.Region.SEPARATOR;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.CacheUtils;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.data.Portfolio;
+import org.apache.geode.test.junit.categories.OQLQueryTest;
+
+@Category({OQLQueryTest.class})
+public class QueryCompilerIntegrationTest {
+
+  private static final String[] QUERIES = {
+      "select * from " + SEPARATOR + "portfolios p where p.ID > 10",
+      "select * from " + SEPARATOR + "portfolios where ID > 10 and status = 'active'",
+      "select * from " + SEPARATOR + "portfolios p where p.ID < 5 or p.status <> 'active'",
+      "select * from " + SEPARATOR + "portfolios p where not (p.ID >= 50)",
+      "select * from " + SEPARATOR + "portfolios p where p.P1.secId = 'IBM'",
+      "select * from " + SEPARATOR + "portfolios p where p.P2.secId = 'IBM'",
+      "select * from " + SEPARATOR + "portfolios p where p.ID = $1 or p.ID = $2",
+      "select p.ID, p.status from " + SEPARATOR + "portfolios p where p.ID > 90",
+      "select distinct status from " + SEPARATOR + "portfolios where ID > 20",
+      "select p.ID from " + SEPARATOR + "portfolios p where p.status like 'act%'",
+      "select p.ID from " + SEPARATOR + "portfolios p where p.ID in set(1, 2, 3)",
+      "select p.ID from " + SEPARATOR + "portfolios p, p.positions.values pos"
+          + " where pos.secId = 'IBM' and p.ID > 3",
+      "select count(*) from " + SEPARATOR + "portfolios p where p.isActive()",
+      "select * from " + SEPARATOR + "portfolios p where p.ID in (select i.ID from "
+          + SEPARATOR + "portfolios i where i.ID > 95)"};
+
+  private static final Object[] PARAMETERS = {1, 7};
+
+  private QueryService queryService;
+
+  @Before
+  public void setUp() {
+    CacheUtils.startCache();
+    Region<Integer, Portfolio> region = CacheUtils.createRegion("portfolios", Portfolio.class);
+    for (int i = 0; i < 100; i++) {
+      region.put(i, new Portfolio(i));
+    }
+    queryService = CacheUtils.getQueryService();
+  }
+
+  @After
+  public void tearDown() {
+    QueryCompiler.COMPILE_EXPRESSIONS = false;
+    CacheUtils.closeCache();
+  }
+
+  @Test
+  public void compiledQueriesReturnSameResultsAsInterpretedQueries() throws Exception {
+    for (String query : QUERIES) {
+      QueryCompiler.COMPILE_EXPRESSIONS = false;
+      List<?> interpreted = execute(query);
+      QueryCompiler.COMPILE_EXPRESSIONS = true;
+      List<?> compiled = execute(query);
+
+      assertThat(compiled).as(query).containsExactlyInAnyOrderElementsOf(interpreted);
+    }
+  }
+
+  @Test
+  public void compiledQueryFiltersRows() throws Exception {
+    QueryCompiler.COMPILE_EXPRESSIONS = true;
+
+    assertThat(execute("select p.ID from " + SEPARATOR + "portfolios p where p.ID >= 95"))
+        .containsExactlyInAnyOrder(95, 96, 97, 98, 99);
+  }
+
+  private List<?> execute(String query) throws Exception {
+    return ((SelectResults<?>) queryService.newQuery(query).execute(PARAMETERS)).asList();
+  }
+}
@@ -17,7 +17,9 @@ package org.apache.geode.cache.query.partitioned;
 import static org.apache.geode.cache.Region.SEPARATOR;
 import static org.junit.Assert.fail;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -27,7 +29,11 @@ import org.apache.geode.LogWriter;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.query.Query;
 import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.Struct;
 import org.apache.geode.cache.query.data.PortfolioData;
+import org.apache.geode.cache.query.internal.QueryObserver;
+import org.apache.geode.cache.query.internal.QueryObserverAdapter;
+import org.apache.geode.cache.query.internal.QueryObserverHolder;
 import org.apache.geode.internal.Assert;
 import org.apache.geode.internal.cache.PRQueryProcessor;
 import org.apache.geode.internal.cache.PartitionedRegionTestHelper;
@@ -138,6 +144,168 @@ public class PRQueryNumThreadsJUnitTest {
     }
   }
 
+  @Test
+  public void testQueryWithBucketSplits() throws Exception {
+    Region region = PartitionedRegionTestHelper.createPartitionedRegion(regionName, "100", 0);
+    PortfolioData[] portfolios = new PortfolioData[1000];
+    for (int j = 0; j < 1000; j++) {
+      portfolios[j] = new PortfolioData(j);
+    }
+    PRQueryProcessor.TEST_NUM_THREADS = 10;
+    PRQueryProcessor.TEST_BUCKET_SPLIT_SIZE = 2;
+    try {
+      populateData(region, portfolios);
+
+      String queryString = "ID < 500";
+      SelectResults resSet = region.query(queryString);
+      Assert.assertTrue(resSet.size() == 500);
+
+      queryString = "Select distinct p.ID from " + SEPARATOR + region.getName()
+          + " p where p.ID >= 100 order by p.ID";
+      Query query = region.getCache().getQueryService().newQuery(queryString);
+      SelectResults sr = (SelectResults) query.execute();
+      Assert.assertTrue(sr.size() == 900);
+      int expected = 100;
+      for (Object id : sr.asList()) {
+        Assert.assertTrue(((Integer) id) == expected++);
+      }
+
+      queryString = "Select count(*) from " + SEPARATOR + region.getName() + " p where p.ID < 50";
+      query = region.getCache().getQueryService().newQuery(queryString);
+      sr = (SelectResults) query.execute();
+      Assert.assertTrue(((Integer) sr.asList().get(0)) == 50);
+    } finally {
+      PRQueryProcessor.TEST_NUM_THREADS = 0;
+      PRQueryProcessor.TEST_BUCKET_SPLIT_SIZE = 0;
+      region.close();
+    }
+  }
+
+  @Test
+  public void testQueryWithBucketSplitsAndIndex() throws Exception {
+    Region region = PartitionedRegionTestHelper.createPartitionedRegion(regionName, "100", 0);
+    PortfolioData[] portfolios = new PortfolioData[1000];
+    for (int j = 0; j < 1000; j++) {
+      portfolios[j] = new PortfolioData(j);
+    }
+    PRQueryProcessor.TEST_NUM_THREADS = 10;
+    PRQueryProcessor.TEST_BUCKET_SPLIT_SIZE = 2;
+    IndexLookupObserver observer = new IndexLookupObserver();
+    QueryObserver oldObserver = QueryObserverHolder.setInstance(observer);
+    try {
+      populateData(region, portfolios);
+      region.getCache().getQueryService().createIndex("idIndex", "p.ID",
+          SEPARATOR + region.getName() + " p");
+
+      // the index is used, so each bucket is evaluated by one of its tasks only
+      String queryString = "ID < 500";
+      SelectResults resSet = region.query(queryString);
+      Assert.assertTrue(resSet.size() == 500);
+      Assert.assertTrue(observer.indexLookups.get() > 0);
+
+      // the index can not be used, so each task iterates over its own split
+      observer.indexLookups.set(0);
+      queryString = "status = 'active'";
+      resSet = region.query(queryString);
+      Assert.assertTrue(resSet.size() == 500);
+      Assert.assertTrue(observer.indexLookups.get() == 0);
+
+      queryString = "Select count(*) from " + SEPARATOR + region.getName()
+          + " p where p.ID >= 100 and p.ID < 200";
+      Query query = region.getCache().getQueryService().newQuery(queryString);
+      SelectResults sr = (SelectResults) query.execute();
+      Assert.assertTrue(((Integer) sr.asList().get(0)) == 100);
+    } finally {
+      QueryObserverHolder.setInstance(oldObserver);
+      PRQueryProcessor.TEST_NUM_THREADS = 0;
+      PRQueryProcessor.TEST_BUCKET_SPLIT_SIZE = 0;
+      region.close();
+    }
+  }
+
+  @Test
+  public void testQueryWithBucketSplitsAndLimit() throws Exception {
+    Region region = PartitionedRegionTestHelper.createPartitionedRegion(regionName, "100", 0);
+    PortfolioData[] portfolios = new PortfolioData[1000];
+    for (int j = 0; j < 1000; j++) {
+      portfolios[j] = new PortfolioData(j);
+    }
+    PRQueryProcessor.TEST_NUM_THREADS = 10;
+    PRQueryProcessor.TEST_BUCKET_SPLIT_SIZE = 2;
+    try {
+      populateData(region, portfolios);
+
+      String queryString =
+          "Select * from " + SEPARATOR + region.getName() + " p where p.ID < 500 limit 10";
+      Query query = region.getCache().getQueryService().newQuery(queryString);
+      SelectResults sr = (SelectResults) query.execute();
+      Assert.assertTrue(sr.size() == 10);
+
+      queryString = "Select distinct p.ID from " + SEPARATOR + region.getName()
+          + " p where p.ID >= 100 order by p.ID limit 10";
+      query = region.getCache().getQueryService().newQuery(queryString);
+      sr = (SelectResults) query.execute();
+      Assert.assertTrue(sr.size() == 10);
+      int expected = 100;
+      for (Object id : sr.asList()) {
+        Assert.assertTrue(((Integer) id) == expected++);
+      }
+
+      region.getCache().getQueryService().createIndex("idIndex", "p.ID",
+          SEPARATOR + region.getName() + " p");
+      sr = (SelectResults) query.execute();
+      Assert.assertTrue(sr.size() == 10);
+      expected = 100;
+      for (Object id : sr.asList()) {
+        Assert.assertTrue(((Integer) id) == expected++);
+      }
+    } finally {
+      PRQueryProcessor.TEST_NUM_THREADS = 0;
+      PRQueryProcessor.TEST_BUCKET_SPLIT_SIZE = 0;
+      region.close();
+    }
+  }
+
+  @Test
+  public void testGroupByQueryCombinesBucketResults() throws Exception {
+    Region region = PartitionedRegionTestHelper.createPartitionedRegion(regionName, "100", 0);
+    PortfolioData[] portfolios = new PortfolioData[100];
+    for (int j = 0; j < 100; j++) {
+      portfolios[j] = new PortfolioData(j);
+    }
+    PRQueryProcessor.TEST_NUM_THREADS = 10;
+    try {
+      populateData(region, portfolios);
+
+      String queryString = "Select p.status, count(*), sum(p.ID), avg(p.ID), max(p.ID), "
+          + "count(distinct p.pkid) from " + SEPARATOR + region.getName()
+          + " p group by p.status";
+      Query query = region.getCache().getQueryService().newQuery(queryString);
+      SelectResults sr = (SelectResults) query.execute();
+      Assert.assertTrue(sr.size() == 2);
+      for (Object row : sr.asList()) {
+        Object[] values = ((Struct) row).getFieldValues();
+        int[] expected = "active".equals(values[0]) ? new int[] {50, 2450, 49, 98, 50}
+            : new int[] {50, 2500, 50, 99, 50};
+        for (int k = 1; k < values.length; k++) {
+          Assert.assertTrue(((Number) values[k]).intValue() == expected[k - 1]);
+        }
+      }
+    } finally {
+      PRQueryProcessor.TEST_NUM_THREADS = 0;
+      region.close();
+    }
+  }
+
+  private static class IndexLookupObserver extends QueryObserverAdapter {
+    final AtomicInteger indexLookups = new AtomicInteger();
+
+    @Override
+    public void afterIndexLookup(Collection results) {
+      indexLookups.incrementAndGet();
+    }
+  }
+
   /**
    * Populates the region with the Objects stores in the data Object array.
    *
@@ -386,6 +386,117 @@ public class OplogJUnitTest extends DiskRegionTestingBase {
     closeDown();
   }
 
+  /**
+   * Tests that values of an oplog that is done appending are read from its mapped crf
+   */
+  @Test
+  public void testFaultInOfValuesFromMappedOplog() {
+    Oplog.MAPPED_READS = true;
+    try {
+      diskProps.setPersistBackup(true);
+      diskProps.setRolling(false);
+      diskProps.setSynchronous(true);
+      diskProps.setOverflow(false);
+
+      region = DiskRegionHelperFactory.getSyncPersistOnlyRegion(cache, diskProps, Scope.LOCAL);
+      byte[] val = new byte[10];
+      for (int i = 0; i < val.length; ++i) {
+        val[i] = (byte) i;
+      }
+      region.put(1, val);
+
+      DiskEntry entry = ((DiskEntry) ((LocalRegion) region).basicGetEntry(1));
+      DiskRegion dr = ((LocalRegion) region).getDiskRegion();
+      ((LocalRegion) region).getDiskStore().forceRoll();
+      Oplog oplog =
+          dr.getDiskStore().getPersistentOplogSet().getChild(entry.getDiskId().getOplogId());
+      assertFalse(oplog.isCrfMapped());
+
+      assertTrue(Arrays.equals(val, (byte[]) dr.getNoBuffer(entry.getDiskId())));
+      assertTrue(oplog.isCrfMapped());
+      assertTrue(Arrays.equals(val, (byte[]) dr.getNoBuffer(entry.getDiskId())));
+    } finally {
+      Oplog.MAPPED_READS = false;
+    }
+    closeDown();
+  }
+
+  /**
+   * Tests that concurrent synchronous writes in group commit mode are all flushed before they
+   * return
+   */
+  @Test
+  public void testGroupCommitFlushesConcurrentSyncWrites() throws Exception {
+    Oplog.GROUP_COMMIT = true;
+    try {
+      diskProps.setPersistBackup(true);
+      diskProps.setRolling(false);
+      diskProps.setSynchronous(true);
+      diskProps.setOverflow(false);
+      region = DiskRegionHelperFactory.getSyncPersistOnlyRegion(cache, diskProps, Scope.LOCAL);
+
+      Thread[] threads = new Thread[4];
+      for (int t = 0; t < threads.length; t++) {
+        final int base = t * 100;
+        threads[t] = new Thread(() -> {
+          for (int i = base; i < base + 100; i++) {
+            region.put(i, "value" + i);
+          }
+        });
+        threads[t].start();
+      }
+      for (Thread thread : threads) {
+        ThreadUtils.join(thread, 30 * 1000);
+      }
+
+      Oplog oplog = ((LocalRegion) region).getDiskStore().getPersistentOplogSet().getChild();
+      assertFalse(oplog.hasPendingGroupCommits());
+      region.close();
+      region = DiskRegionHelperFactory.getSyncPersistOnlyRegion(cache, diskProps, Scope.LOCAL);
+      for (int i = 0; i < 400; i++) {
+        assertEquals("value" + i, region.get(i));
+      }
+    } finally {
+      Oplog.GROUP_COMMIT = false;
+    }
+    closeDown();
+  }
+
+  /**
+   * Tests that destroying an oplog whose crf is mapped unmaps it and deletes the crf
+   */
+  @Test
+  public void testDestroyOfMappedOplogUnmapsCrf() {
+    Oplog.MAPPED_READS = true;
+    try {
+      diskProps.setPersistBackup(true);
+      diskProps.setRolling(false);
+      diskProps.setSynchronous(true);
+      diskProps.setOverflow(false);
+
+      region = DiskRegionHelperFactory.getSyncPersistOnlyRegion(cache, diskProps, Scope.LOCAL);
+      byte[] val = new byte[10];
+      region.put(1, val);
+
+      DiskEntry entry = ((DiskEntry) ((LocalRegion) region).basicGetEntry(1));
+      DiskRegion dr = ((LocalRegion) region).getDiskRegion();
+      ((LocalRegion) region).getDiskStore().forceRoll();
+      Oplog oplog =
+          dr.getDiskStore().getPersistentOplogSet().getChild(entry.getDiskId().getOplogId());
+      File crfFile = oplog.getCrfFile();
+      assertTrue(Arrays.equals(val, (byte[]) dr.getNoBuffer(entry.getDiskId())));
+      assertTrue(oplog.isCrfMapped());
+
+      oplog.destroy();
+
+      assertFalse(oplog.isCrfMapped());
+      await().until(() -> !crfFile.exists());
+    } finally {
+      Oplog.MAPPED_READS = false;
+    }
+    closeDown();
+  }
+
   /**
    * Tests the original ByteBufferPool gets transferred to the new Oplog for synch mode
    *
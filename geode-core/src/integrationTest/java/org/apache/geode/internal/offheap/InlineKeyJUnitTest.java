@@ -17,6 +17,7 @@ package org.apache.geode.internal.offheap;
 import static org.apache.geode.distributed.ConfigurationProperties.LOCATORS;
 import static org.apache.geode.distributed.ConfigurationProperties.MCAST_PORT;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Properties;
@@ -31,13 +32,17 @@ import org.apache.geode.cache.RegionShortcut;
 import org.apache.geode.cache.util.ObjectSizer;
 import org.apache.geode.distributed.ConfigurationProperties;
 import org.apache.geode.internal.cache.GemFireCacheImpl;
+import org.apache.geode.internal.cache.InlineKeyHelper;
 import org.apache.geode.internal.cache.LocalRegion;
+import org.apache.geode.internal.cache.entries.AbstractRegionEntry;
 import org.apache.geode.internal.cache.entries.VMThinRegionEntryOffHeapIntKey;
 import org.apache.geode.internal.cache.entries.VMThinRegionEntryOffHeapLongKey;
 import org.apache.geode.internal.cache.entries.VMThinRegionEntryOffHeapObjectKey;
 import org.apache.geode.internal.cache.entries.VMThinRegionEntryOffHeapStringKey1;
 import org.apache.geode.internal.cache.entries.VMThinRegionEntryOffHeapStringKey2;
+import org.apache.geode.internal.cache.entries.VMThinRegionEntryOffHeapStringKeyAddress;
 import org.apache.geode.internal.cache.entries.VMThinRegionEntryOffHeapUUIDKey;
+import org.apache.geode.internal.util.concurrent.CustomEntryConcurrentHashMap;
 import org.apache.geode.test.junit.categories.OffHeapTest;
 
 @Category({OffHeapTest.class})
@@ -169,6 +174,109 @@ public class InlineKeyJUnitTest {
     }
   }
 
+  @Test
+  public void testOffHeapStringKeys() {
+    GemFireCacheImpl gfc = createCache();
+    InlineKeyHelper.OFF_HEAP_STRING_KEYS = true;
+    try {
+      Region<Object, Object> r = gfc.createRegionFactory(RegionShortcut.LOCAL)
+          .setConcurrencyChecksEnabled(false).setOffHeap(true).create("offHeapKeyRegion");
+      LocalRegion lr = (LocalRegion) r;
+      MemoryAllocatorImpl ma = MemoryAllocatorImpl.getAllocator();
+
+      String key = "1234567890123456";
+      r.put(key, "value");
+      assertTrue("expected off-heap string entry but was " + lr.getRegionEntry(key).getClass(),
+          lr.getRegionEntry(key) instanceof VMThinRegionEntryOffHeapStringKeyAddress);
+      assertEquals(key, lr.getRegionEntry(key).getKey());
+      assertEquals("value", r.get(new String(key.toCharArray())));
+      assertFalse(r.containsKey("1234567890123457"));
+
+      String charKey = "\u00e9123456789012345";
+      r.put(charKey, "charValue");
+      assertTrue("expected off-heap string entry but was " + lr.getRegionEntry(charKey).getClass(),
+          lr.getRegionEntry(charKey) instanceof VMThinRegionEntryOffHeapStringKeyAddress);
+      assertEquals(charKey, lr.getRegionEntry(charKey).getKey());
+      assertEquals("charValue", r.get(charKey));
+      assertTrue(r.keySet().contains(charKey));
+
+      r.destroy(key);
+      r.destroy(charKey);
+      assertFalse(r.containsKey(key));
+      assertFalse(r.containsKey(charKey));
+      assertEquals(0, ma.getStats().getObjects());
+    } finally {
+      InlineKeyHelper.OFF_HEAP_STRING_KEYS = false;
+      closeCache(gfc);
+    }
+  }
+
+  @Test
+  public void testOffHeapStringKeysOfLosingPutIfAbsentAreNotLeaked() throws Exception {
+    GemFireCacheImpl gfc = createCache();
+    InlineKeyHelper.OFF_HEAP_STRING_KEYS = true;
+    try {
+      Region<Object, Object> r = gfc.createRegionFactory(RegionShortcut.LOCAL)
+          .setConcurrencyChecksEnabled(false).setOffHeap(true).create("offHeapKeyLeakRegion");
+      MemoryAllocatorImpl ma = MemoryAllocatorImpl.getAllocator();
+      long baseline = ma.getUsedMemory();
+      int keyCount = 200;
+      Thread[] threads = new Thread[4];
+      for (int t = 0; t < threads.length; t++) {
+        threads[t] = new Thread(() -> {
+          for (int i = 0; i < keyCount; i++) {
+            r.putIfAbsent("offHeapStringKey-" + i, "value");
+          }
+        });
+        threads[t].start();
+      }
+      for (Thread thread : threads) {
+        thread.join();
+      }
+      assertEquals(keyCount, r.size());
+      LocalRegion lr = (LocalRegion) r;
+      for (int i = 0; i < keyCount; i++) {
+        assertTrue(((VMThinRegionEntryOffHeapStringKeyAddress) lr
+            .getRegionEntry("offHeapStringKey-" + i)).getKeyAddress() != 0L);
+      }
+
+      for (int i = 0; i < keyCount; i++) {
+        r.destroy("offHeapStringKey-" + i);
+      }
+      assertEquals(0, ma.getStats().getObjects());
+      assertEquals(baseline, ma.getUsedMemory());
+    } finally {
+      InlineKeyHelper.OFF_HEAP_STRING_KEYS = false;
+      closeCache(gfc);
+    }
+  }
+
+  @Test
+  public void testOffHeapStringKeyIsNotAllocatedUntilEntryIsAdded() {
+    GemFireCacheImpl gfc = createCache();
+    try {
+      MemoryAllocatorImpl ma = MemoryAllocatorImpl.getAllocator();
+      VMThinRegionEntryOffHeapStringKeyAddress re =
+          new VMThinRegionEntryOffHeapStringKeyAddress(null, "1234567890123456", null);
+      assertEquals(0L, re.getKeyAddress());
+      assertEquals(0, ma.getStats().getObjects());
+
+      re.storeKeyOffHeap();
+      assertTrue(re.getKeyAddress() != 0L);
+      assertEquals(1, ma.getStats().getObjects());
+      assertEquals("1234567890123456", re.getKey());
+
+      re.release();
+      assertEquals(0L, re.getKeyAddress());
+      assertEquals(0, ma.getStats().getObjects());
+      assertEquals("1234567890123456", re.getKey());
+      re.storeKeyOffHeap();
+      assertEquals(0L, re.getKeyAddress());
+    } finally {
+      closeCache(gfc);
+    }
+  }
+
   private static int getMemSize(Object o) {
     return ObjectSizer.REFLECTION_SIZE.sizeof(o);
   }
@@ -205,4 +313,20 @@ public class InlineKeyJUnitTest {
     // System.out.println("VMThinRegionEntryObjectKey=" + getMemSize(re2));
     assertTrue(getMemSize(re) < getMemSize(re2));
   }
+
+  @Test
+  public void testInlineKeyEntryHash() {
+    assertEntryHash(new VMThinRegionEntryOffHeapIntKey(null, -7, null), -7);
+    assertEntryHash(new VMThinRegionEntryOffHeapLongKey(null, 1L << 40, null), 1L << 40);
+    UUID uuid = new UUID(1L, 2L << 33);
+    assertEntryHash(new VMThinRegionEntryOffHeapUUIDKey(null, uuid, null), uuid);
+  }
+
+  private static void assertEntryHash(AbstractRegionEntry entry, Object key) {
+    int hash = CustomEntryConcurrentHashMap.keyHash(key, true);
+    assertEquals(hash, entry.getEntryHash());
+    // the creator asserts that the hash it is given matches the one the entry computes
+    new AbstractRegionEntry.HashRegionEntryCreator().newEntry(key, hash, null, entry);
+    assertEquals(hash, entry.getEntryHash());
+  }
 }
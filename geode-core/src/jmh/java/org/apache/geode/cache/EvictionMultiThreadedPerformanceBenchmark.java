@@ -44,6 +44,13 @@ public class EvictionMultiThreadedPerformanceBenchmark {
   @Param({"true", "false"})
   public String useAsync;
 
+  /**
+   * The number of eviction list segments. A value greater than one uses a {@code StripedLRUList}
+   * and ignores {@link #useAsync}.
+   */
+  @Param({"1", "16"})
+  public String segments;
+
   Cache cache;
   Region<String, String> region;
   AtomicInteger nextKey = new AtomicInteger(MAX_ENTRIES + 1);
@@ -51,6 +58,7 @@ public class EvictionMultiThreadedPerformanceBenchmark {
   @Setup(Level.Trial)
   public void setup() {
     System.setProperty("geode." + SystemPropertyHelper.EVICTION_SCAN_ASYNC, useAsync);
+    System.setProperty("geode." + SystemPropertyHelper.EVICTION_LIST_SEGMENTS, segments);
     cache = new CacheFactory().set(LOG_LEVEL, "warn").create();
     region = createRegion(cache, MAX_ENTRIES);
   }
@@ -115,6 +123,28 @@ public class EvictionMultiThreadedPerformanceBenchmark {
     return region.put(key, "value");
   }
 
+  @Benchmark
+  @Measurement(time = 5, iterations = 10)
+  @Warmup(iterations = 5)
+  @BenchmarkMode(Mode.Throughput)
+  @Threads(32)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public String evictingCreate32Threads() {
+    String key = Integer.toString(nextKey.incrementAndGet());
+    return region.put(key, "value");
+  }
+
+  @Benchmark
+  @Measurement(time = 5, iterations = 10)
+  @Warmup(iterations = 5)
+  @BenchmarkMode(Mode.Throughput)
+  @Threads(64)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public String evictingCreate64Threads() {
+    String key = Integer.toString(nextKey.incrementAndGet());
+    return region.put(key, "value");
+  }
+
   private Region<String, String> createRegion(Cache cache, int maxSize) {
     Region<String, String> region = cache.<String, String>createRegionFactory(RegionShortcut.LOCAL)
         .setEvictionAttributes(
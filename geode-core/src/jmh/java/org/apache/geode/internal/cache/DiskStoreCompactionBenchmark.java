@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.apache.geode.distributed.ConfigurationProperties.LOG_LEVEL;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.DiskStore;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+
+/**
+ * Measures how long a forced compaction takes to copy forward the live entries of oplogs where
+ * half of the records are garbage.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+public class DiskStoreCompactionBenchmark {
+
+  @Param({"100000"})
+  public int entries;
+
+  @Param({"1024"})
+  public int valueSize;
+
+  private File diskDir;
+  private Cache cache;
+  private DiskStore diskStore;
+  private Region<Integer, byte[]> region;
+  private byte[] value;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    diskDir = Files.createTempDirectory("DiskStoreCompactionBenchmark").toFile();
+    cache = new CacheFactory().set(LOG_LEVEL, "warn").create();
+    diskStore = cache.createDiskStoreFactory().setDiskDirs(new File[] {diskDir})
+        .setMaxOplogSize(16).setAutoCompact(false).setAllowForceCompaction(true)
+        .create("store");
+    region = cache.<Integer, byte[]>createRegionFactory(RegionShortcut.LOCAL_PERSISTENT)
+        .setDiskStoreName("store").create("region");
+    value = new byte[valueSize];
+  }
+
+  /**
+   * Writes every entry twice and then destroys half of them so the oplogs have garbage to compact.
+   */
+  @Setup(Level.Invocation)
+  public void createGarbage() {
+    for (int i = 0; i < entries; i++) {
+      region.put(i, value);
+    }
+    for (int i = 0; i < entries; i++) {
+      region.put(i, value);
+    }
+    for (int i = 0; i < entries; i += 2) {
+      region.destroy(i);
+    }
+    diskStore.forceRoll();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    cache.close();
+    FileUtils.deleteDirectory(diskDir);
+  }
+
+  @Benchmark
+  @Measurement(iterations = 10)
+  @Warmup(iterations = 2)
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public boolean compact() {
+    return diskStore.forceCompaction();
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.apache.geode.distributed.ConfigurationProperties.LOG_LEVEL;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+
+/**
+ * Measures the throughput of puts on a persistent region with synchronous or asynchronous disk
+ * writes, optionally with group commit of synchronous writes. Run it with several threads to see
+ * the effect of group commit, for example:
+ *
+ * <pre>
+ * $ ./gradlew geode-core:jmh -Pjmh.include=DiskStorePutBenchmark -Pjmh.threads=8 \
+ *     -Pjmh.profilers="org.apache.geode.benchmark.jmh.profilers.BufferPoolProfiler gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+public class DiskStorePutBenchmark {
+  private static final int KEYS = 100_000;
+
+  @Param({"true", "false"})
+  public boolean synchronous;
+
+  @Param({"false", "true"})
+  public boolean groupCommit;
+
+  @Param({"1024"})
+  public int valueSize;
+
+  private File diskDir;
+  private Cache cache;
+  private Region<Integer, byte[]> region;
+  private byte[] value;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    Oplog.GROUP_COMMIT = groupCommit;
+    diskDir = Files.createTempDirectory("DiskStorePutBenchmark").toFile();
+    cache = new CacheFactory().set(LOG_LEVEL, "warn").create();
+    cache.createDiskStoreFactory().setDiskDirs(new File[] {diskDir}).setMaxOplogSize(256)
+        .create("store");
+    region = cache.<Integer, byte[]>createRegionFactory(RegionShortcut.LOCAL_PERSISTENT)
+        .setDiskStoreName("store").setDiskSynchronous(synchronous).create("region");
+    value = new byte[valueSize];
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    cache.close();
+    Oplog.GROUP_COMMIT = false;
+    FileUtils.deleteDirectory(diskDir);
+  }
+
+  @Benchmark
+  @Measurement(iterations = 10)
+  @Warmup(iterations = 3)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public byte[] put() {
+    return region.put(ThreadLocalRandom.current().nextInt(KEYS), value);
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.apache.geode.distributed.ConfigurationProperties.LOG_LEVEL;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.DiskStore;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+
+/**
+ * Measures how long it takes to recover a persistent region from a disk store with a given number
+ * of oplogs. Each oplog has updates and destroys so that both the drf and the crf are read.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+public class DiskStoreRecoveryBenchmark {
+  private static final int ENTRIES_PER_OPLOG = 10_000;
+
+  @Param({"1", "10", "50"})
+  public int oplogs;
+
+  @Param({"1024"})
+  public int valueSize;
+
+  private File diskDir;
+  private Cache cache;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    diskDir = Files.createTempDirectory("DiskStoreRecoveryBenchmark").toFile();
+    Cache initialCache = createCache();
+    DiskStore diskStore = createDiskStore(initialCache);
+    Region<Integer, byte[]> region = createRegion(initialCache);
+    byte[] value = new byte[valueSize];
+    int key = 0;
+    for (int oplog = 0; oplog < oplogs; oplog++) {
+      for (int i = 0; i < ENTRIES_PER_OPLOG; i++) {
+        region.put(key++, value);
+      }
+      for (int i = key - ENTRIES_PER_OPLOG; i < key; i += 4) {
+        region.destroy(i);
+      }
+      diskStore.forceRoll();
+    }
+    initialCache.close();
+  }
+
+  @TearDown(Level.Invocation)
+  public void closeCache() {
+    cache.close();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    FileUtils.deleteDirectory(diskDir);
+  }
+
+  @Benchmark
+  @Measurement(iterations = 10)
+  @Warmup(iterations = 2)
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public Region<Integer, byte[]> recover() {
+    cache = createCache();
+    createDiskStore(cache);
+    return createRegion(cache);
+  }
+
+  private Cache createCache() {
+    return new CacheFactory().set(LOG_LEVEL, "warn").create();
+  }
+
+  private DiskStore createDiskStore(Cache cache) {
+    return cache.createDiskStoreFactory().setDiskDirs(new File[] {diskDir}).setAutoCompact(false)
+        .create("store");
+  }
+
+  private Region<Integer, byte[]> createRegion(Cache cache) {
+    return cache.<Integer, byte[]>createRegionFactory(RegionShortcut.LOCAL_PERSISTENT)
+        .setDiskStoreName("store").create("region");
+  }
+}
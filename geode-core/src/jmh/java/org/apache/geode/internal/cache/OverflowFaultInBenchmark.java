@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.apache.geode.distributed.ConfigurationProperties.LOG_LEVEL;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.EvictionAction;
+import org.apache.geode.cache.EvictionAttributes;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+
+/**
+ * Measures the latency of gets on an overflow region where almost every get has to fault the value
+ * in from disk, with values read from the oplog files or from memory mapped oplogs.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+public class OverflowFaultInBenchmark {
+  private static final int KEYS = 200_000;
+  private static final int ENTRIES_IN_MEMORY = 1_000;
+
+  @Param({"false", "true"})
+  public boolean mappedReads;
+
+  @Param({"1024"})
+  public int valueSize;
+
+  private File diskDir;
+  private Cache cache;
+  private Region<Integer, byte[]> region;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    Oplog.MAPPED_READS = mappedReads;
+    diskDir = Files.createTempDirectory("OverflowFaultInBenchmark").toFile();
+    cache = new CacheFactory().set(LOG_LEVEL, "warn").create();
+    cache.createDiskStoreFactory().setDiskDirs(new File[] {diskDir}).setMaxOplogSize(64)
+        .create("store");
+    region = cache.<Integer, byte[]>createRegionFactory(RegionShortcut.LOCAL_PERSISTENT_OVERFLOW)
+        .setDiskStoreName("store")
+        .setEvictionAttributes(EvictionAttributes.createLRUEntryAttributes(ENTRIES_IN_MEMORY,
+            EvictionAction.OVERFLOW_TO_DISK))
+        .create("region");
+    byte[] value = new byte[valueSize];
+    for (int i = 0; i < KEYS; i++) {
+      region.put(i, value);
+    }
+    // move the writes into inactive oplogs so they can be mapped
+    cache.findDiskStore("store").forceRoll();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    cache.close();
+    Oplog.MAPPED_READS = false;
+    FileUtils.deleteDirectory(diskDir);
+  }
+
+  @Benchmark
+  @Measurement(iterations = 10)
+  @Warmup(iterations = 3)
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public byte[] faultIn() {
+    return region.get(ThreadLocalRandom.current().nextInt(KEYS));
+  }
+}
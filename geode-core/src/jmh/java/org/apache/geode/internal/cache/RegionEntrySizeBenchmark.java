@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.apache.geode.distributed.ConfigurationProperties.LOG_LEVEL;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.apache.geode.benchmark.jmh.profilers.ObjectSizeProfiler;
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+
+/**
+ * Measures the memory used by the region entries of regions with different shapes and key types,
+ * along with the throughput of gets on them. When run with the {@link ObjectSizeProfiler} the
+ * {@code objectSize.entries} result is the retained size of all the entries, so dividing it by the
+ * number of entries gives the per entry overhead. All entries share one value so it is only
+ * counted once.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+public class RegionEntrySizeBenchmark {
+  private static final int ENTRIES = 100_000;
+
+  public enum KeyType {
+    INTEGER, LONG, UUID, STRING
+  }
+
+  @Param({"LOCAL", "REPLICATE"})
+  public RegionShortcut shortcut;
+
+  @Param({"false", "true"})
+  public boolean statisticsEnabled;
+
+  @Param
+  public KeyType keyType;
+
+  private Cache cache;
+  private Region<Object, String> region;
+  private Object[] keys;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    cache = new CacheFactory().set(LOG_LEVEL, "warn").create();
+    region = cache.<Object, String>createRegionFactory(shortcut)
+        .setStatisticsEnabled(statisticsEnabled).create("region");
+    String value = "value";
+    keys = new Object[ENTRIES];
+    for (int i = 0; i < ENTRIES; i++) {
+      keys[i] = createKey(i);
+      region.put(keys[i], value);
+    }
+    RegionEntry[] entries = ((InternalRegion) region).getRegionMap().regionEntries()
+        .toArray(new RegionEntry[0]);
+    ObjectSizeProfiler.objectSize("entries", entries);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    cache.close();
+  }
+
+  private Object createKey(int i) {
+    switch (keyType) {
+      case INTEGER:
+        return i;
+      case LONG:
+        return (long) i;
+      case UUID:
+        return new UUID(i, i);
+      default:
+        return "key-" + i;
+    }
+  }
+
+  @Benchmark
+  @Measurement(iterations = 5)
+  @Warmup(iterations = 2)
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public String get() {
+    return region.get(keys[ThreadLocalRandom.current().nextInt(ENTRIES)]);
+  }
+}
@@ -594,7 +594,7 @@ public abstract class DynamicRegionFactory {
 
     AttributesFactory af = new AttributesFactory(rra);
     EvictionAttributes ev = rra.getEvictionAttributes();
-    if (ev != null && ev.getAlgorithm().isLRU()) {
+    if (ev != null && (ev.getAlgorithm().isLRU() || ev.getAlgorithm().isLFU())) {
       EvictionAttributes rev = new EvictionAttributesImpl(ev);
       af.setEvictionAttributes(rev);
     }
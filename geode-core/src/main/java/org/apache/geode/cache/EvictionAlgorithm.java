@@ -77,12 +77,23 @@ public final class EvictionAlgorithm extends EnumSyntax implements Serializable
   @Immutable
   public static final EvictionAlgorithm LIFO_MEMORY = new EvictionAlgorithm(5);
 
+  /**
+   * An algorithm that considers the number of Entries in the Region before invoking its
+   * {@link EvictionAction}. Entries are chosen for eviction by an estimate of how frequently their
+   * keys are used, so that a scan over many keys that are used only once does not evict the entries
+   * that are used most often.
+   *
+   * @since Geode 1.16
+   */
+  @Immutable
+  public static final EvictionAlgorithm LFU_ENTRY = new EvictionAlgorithm(6);
+
   private EvictionAlgorithm(int val) {
     super(val);
   }
 
   private static final String[] stringTable = {"none", "lru-entry-count", "lru-heap-percentage",
-      "lru-memory-size", "lifo-entry-count", "lifo-memory-size"};
+      "lru-memory-size", "lifo-entry-count", "lifo-memory-size", "lfu-entry-count"};
 
   @Override
   protected String[] getStringTable() {
@@ -91,7 +102,7 @@ public final class EvictionAlgorithm extends EnumSyntax implements Serializable
 
   @Immutable
   private static final EvictionAlgorithm[] enumValueTable =
-      {NONE, LRU_ENTRY, LRU_HEAP, LRU_MEMORY, LIFO_ENTRY, LIFO_MEMORY,};
+      {NONE, LRU_ENTRY, LRU_HEAP, LRU_MEMORY, LIFO_ENTRY, LIFO_MEMORY, LFU_ENTRY,};
 
   @Override
   protected EnumSyntax[] getEnumValueTable() {
@@ -151,6 +162,16 @@ public final class EvictionAlgorithm extends EnumSyntax implements Serializable
     return isLRUEntry() || isLRUMemory() || isLRUHeap();
   }
 
+  /**
+   * returns true if this object uses a least-frequently-used algorithm
+   *
+   * @return whether this object uses a least-frequently-used algorithm
+   * @since Geode 1.16
+   */
+  public boolean isLFU() {
+    return this == LFU_ENTRY;
+  }
+
   public boolean isNone() {
     return this == NONE;
   }
@@ -132,6 +132,22 @@ public abstract class EvictionAttributes {
         .setAction(evictionAction).setMaximum(maximumEntries);
   }
 
+  /**
+   * Creates and returns {@linkplain EvictionAlgorithm#LFU_ENTRY entry LFU} eviction attributes with
+   * given <code>evictionAction</code> and given <code>maximumEntries</code>.
+   *
+   * @param maximumEntries the number of entries to keep in the Region
+   * @param evictionAction the action to perform when evicting an entry
+   * @return {@linkplain EvictionAlgorithm#LFU_ENTRY entry LFU} eviction attributes with given
+   *         <code>evictionAction</code> and given <code>maximumEntries</code>
+   * @since Geode 1.16
+   */
+  public static EvictionAttributes createLFUEntryAttributes(int maximumEntries,
+      EvictionAction evictionAction) {
+    return new EvictionAttributesImpl().setAlgorithm(EvictionAlgorithm.LFU_ENTRY)
+        .setAction(evictionAction).setMaximum(maximumEntries);
+  }
+
   /**
    * Creates and returns {@linkplain EvictionAlgorithm#LRU_HEAP heap LRU} eviction attributes with
    * default {@linkplain EvictionAction#DEFAULT_EVICTION_ACTION action} and default
@@ -17,6 +17,8 @@ package org.apache.geode.cache.client.internal.pooling;
 import java.util.Deque;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
 import org.apache.geode.annotations.VisibleForTesting;
@@ -37,6 +39,13 @@ public class AvailableConnectionManager {
   private final Deque<Connection> connections =
       new ConcurrentLinkedDeque<>();
 
+  /**
+   * Number of threads currently parked in {@link #awaitAvailable(long)}. Lets the add* methods
+   * skip the monitor entirely when nobody is waiting, which is the common case.
+   */
+  private final AtomicInteger waiters = new AtomicInteger();
+  private final Object availabilityMonitor = new Object();
+
   /**
    * Remove, activate, and return the first connection.
    * Connections that can not be activated will be removed from the manager but not returned.
@@ -98,6 +107,7 @@ public class AvailableConnectionManager {
   public void addFirst(Connection connection, boolean accessed) {
     passivate(connection, accessed);
     connections.addFirst(connection);
+    signalAvailable(false);
   }
 
   /**
@@ -109,6 +119,58 @@ public class AvailableConnectionManager {
   public void addLast(Connection connection, boolean accessed) {
     passivate(connection, accessed);
     connections.addLast(connection);
+    signalAvailable(false);
+  }
+
+  /**
+   * Park the calling thread until a connection is added to this manager, {@link #signalAll()} is
+   * called, or the timeout elapses. Callers must retry their use* method after this returns since
+   * another thread may have taken the connection first.
+   *
+   * @param timeoutNanos the maximum time to wait in nanoseconds
+   * @return true if a connection was available when waiting started or a signal was received;
+   *         false if the timeout elapsed
+   * @throws InterruptedException if the calling thread is interrupted while waiting
+   */
+  public boolean awaitAvailable(long timeoutNanos) throws InterruptedException {
+    if (timeoutNanos <= 0) {
+      return false;
+    }
+    waiters.incrementAndGet();
+    try {
+      synchronized (availabilityMonitor) {
+        // Checked under the monitor after registering as a waiter so an add that raced with us
+        // is either seen here or will notify us once we release the monitor in wait.
+        if (!connections.isEmpty()) {
+          return true;
+        }
+        final long start = System.nanoTime();
+        TimeUnit.NANOSECONDS.timedWait(availabilityMonitor, timeoutNanos);
+        return System.nanoTime() - start < timeoutNanos;
+      }
+    } finally {
+      waiters.decrementAndGet();
+    }
+  }
+
+  /**
+   * Wake every thread waiting in {@link #awaitAvailable(long)}. Used when pool capacity is
+   * released without a connection being returned, for example when a connection is destroyed.
+   */
+  public void signalAll() {
+    signalAvailable(true);
+  }
+
+  private void signalAvailable(boolean all) {
+    if (waiters.get() > 0) {
+      synchronized (availabilityMonitor) {
+        if (all) {
+          availabilityMonitor.notifyAll();
+        } else {
+          availabilityMonitor.notify();
+        }
+      }
+    }
   }
 
   private void passivate(Connection connection, boolean accessed) {
@@ -59,6 +59,7 @@ import org.apache.geode.internal.logging.InternalLogWriter;
 import org.apache.geode.logging.internal.executors.LoggingExecutors;
 import org.apache.geode.logging.internal.log4j.api.LogService;
 import org.apache.geode.security.GemFireSecurityException;
+import org.apache.geode.util.internal.GeodeGlossary;
 
 /**
  * Manages client to server connections for the connection pool. This class contains all of the
@@ -75,6 +76,14 @@ public class ConnectionManagerImpl implements ConnectionManager {
       "Pool unexpected closed socket on server";
   public static final String SOCKET_TIME_OUT_MSG = "socket timed out on client";
 
+  /**
+   * Upper bound on a single park while waiting for a pooled connection. Waiters are normally woken
+   * as soon as a connection is returned, this only bounds the delay for waiters that were not
+   * chosen by a notify, e.g. a single hop borrower waiting on a specific server.
+   */
+  private static final long MAX_CONNECTION_WAIT_SLICE_NANOS = MILLISECONDS.toNanos(
+      Long.getLong(GeodeGlossary.GEMFIRE_PREFIX + "ConnectionManager.MAX_WAIT_SLICE_MS", 10));
+
   private final String poolName;
   private final PoolStats poolStats;
   private final long prefillRetry; // ms
@@ -183,6 +192,8 @@ public class ConnectionManagerImpl implements ConnectionManager {
     if (connectionAccounting.destroyAndIsUnderMinimum(count)) {
       startBackgroundPrefill();
     }
+    // capacity was released so threads waiting in borrow may now create a connection
+    availableConnectionManager.signalAll();
   }
 
   private PooledConnection createPooledConnection()
@@ -265,6 +276,21 @@ public class ConnectionManagerImpl implements ConnectionManager {
     }
   }
 
+  /**
+   * Parks until a connection is returned to the pool, capacity is released, or the slice or
+   * overall timeout elapses. Replaces spinning with {@link Thread#yield()} so that many threads
+   * can share a small, bounded pool without burning CPU while they wait.
+   */
+  private void awaitAvailableConnection(final long timeout) {
+    final long remaining = Math.min(timeout - System.nanoTime(), MAX_CONNECTION_WAIT_SLICE_NANOS);
+    try {
+      availableConnectionManager.awaitAvailable(remaining);
+    } catch (InterruptedException e) {
+      // preserve the interrupt so checkShutdownInterruptedOrTimeout stops the borrow loop
+      Thread.currentThread().interrupt();
+    }
+  }
+
   @Override
   public Connection borrowConnection(long acquireTimeout)
       throws AllConnectionsInUseException, NoAvailableServersException, ServerOperationException {
@@ -300,7 +326,7 @@ public class ConnectionManagerImpl implements ConnectionManager {
 
         waitStart = beginConnectionWaitStatIfNotStarted(waitStart);
 
-        Thread.yield();
+        awaitAvailableConnection(timeout);
       }
     } finally {
       endConnectionWaitStatIfStarted(waitStart);
@@ -344,7 +370,7 @@ public class ConnectionManagerImpl implements ConnectionManager {
 
         waitStart = beginConnectionWaitStatIfNotStarted(waitStart);
 
-        Thread.yield();
+        awaitAvailableConnection(timeout);
       }
     } finally {
       endConnectionWaitStatIfStarted(waitStart);
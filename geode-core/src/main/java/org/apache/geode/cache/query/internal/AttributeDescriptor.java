@@ -40,6 +40,8 @@ import org.apache.geode.internal.lang.utils.JavaWorkarounds;
 import org.apache.geode.pdx.JSONFormatter;
 import org.apache.geode.pdx.PdxSerializationException;
 import org.apache.geode.pdx.internal.InternalPdxInstance;
+import org.apache.geode.pdx.internal.PdxField;
+import org.apache.geode.pdx.internal.PdxInstanceImpl;
 import org.apache.geode.pdx.internal.PdxType;
 import org.apache.geode.pdx.internal.TypeRegistry;
 import org.apache.geode.security.NotAuthorizedException;
@@ -54,11 +56,27 @@ public class AttributeDescriptor {
   @MakeNotStatic
   static final ConcurrentMap<List, Member> _localCache = new ConcurrentHashMap<>();
 
+  /**
+   * the Member last read through this descriptor, so that a descriptor reused for many targets of
+   * the same class does not need to look it up in the shared cache
+   */
+  private ReadMember lastReadMember;
+
+  /**
+   * the PdxField last looked up through this descriptor, so that a descriptor reused for many pdx
+   * instances of the same type looks the field up by name only once
+   */
+  private PdxTypeField lastPdxField;
+
   public AttributeDescriptor(TypeRegistry pdxRegistry, String name) {
     _name = name;
     _pdxRegistry = pdxRegistry;
   }
 
+  TypeRegistry getPdxRegistry() {
+    return _pdxRegistry;
+  }
+
   /** Validate whether this attribute <i>can</i> be evaluated for target type */
   public boolean validateReadType(Class targetType) {
     try {
@@ -169,6 +187,11 @@ public class AttributeDescriptor {
 
   @SuppressWarnings("unchecked")
   Member getReadMember(Class targetClass) throws NameNotFoundException {
+    ReadMember last = lastReadMember;
+    if (last != null && last.targetClass == targetClass) {
+      return last.member;
+    }
+
     // mapping: public field (same name), method (getAttribute()), method (attribute())
     List key = new ArrayList();
     key.add(targetClass);
@@ -186,6 +209,7 @@ public class AttributeDescriptor {
 
     // override security for nonpublic derived classes with public members
     ((AccessibleObject) m).setAccessible(true);
+    lastReadMember = new ReadMember(targetClass, m);
     return m;
   }
 
@@ -227,6 +251,16 @@ public class AttributeDescriptor {
    */
   private Object readPdx(InternalPdxInstance pdxInstance, ExecutionContext executionContext)
       throws NameNotFoundException, QueryInvocationTargetException {
+    // a writable instance may have modified fields that are not in its serialized form yet
+    if (pdxInstance.getClass() == PdxInstanceImpl.class) {
+      PdxInstanceImpl instance = (PdxInstanceImpl) pdxInstance;
+      PdxField field = getPdxField(instance.getPdxType());
+      if (field != null) {
+        // return PdxString if field is a String otherwise invoke readField
+        return instance.readRawField(field);
+      }
+    }
+
     // if the field is present in the pdxinstance
     if (pdxInstance.hasField(_name)) {
       // return PdxString if field is a String otherwise invoke readField
@@ -267,6 +301,16 @@ public class AttributeDescriptor {
     }
   }
 
+  private PdxField getPdxField(PdxType pdxType) {
+    PdxTypeField last = lastPdxField;
+    if (last != null && last.pdxType == pdxType) {
+      return last.field;
+    }
+    PdxField field = pdxType.getPdxField(_name);
+    lastPdxField = new PdxTypeField(pdxType, field);
+    return field;
+  }
+
   private Object readFieldFromDeserializedObject(InternalPdxInstance pdxInstance,
       ExecutionContext executionContext)
       throws NameNotFoundException, QueryInvocationTargetException {
@@ -322,4 +366,24 @@ public class AttributeDescriptor {
 
     return false;
   }
+
+  private static class ReadMember {
+    private final Class targetClass;
+    private final Member member;
+
+    private ReadMember(Class targetClass, Member member) {
+      this.targetClass = targetClass;
+      this.member = member;
+    }
+  }
+
+  private static class PdxTypeField {
+    private final PdxType pdxType;
+    private final PdxField field;
+
+    private PdxTypeField(PdxType pdxType, PdxField field) {
+      this.pdxType = pdxType;
+      this.field = field;
+    }
+  }
 }
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.query.internal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The splits of one bucket that are queried by separate tasks, each iterating over a disjoint part
+ * of the bucket's entries. Whether the where clause is evaluated with an index is only known once
+ * a task has planned it, so the first task to do so decides for all tasks of the bucket: either
+ * every task iterates over its own split, or the task that chose the index evaluates the where
+ * clause over the whole bucket and the other tasks return no results.
+ */
+public class BucketSplit {
+
+  /**
+   * How a task evaluates the where clause for its split.
+   */
+  public enum Evaluation {
+    /**
+     * Iterate over the entries of the task's own split.
+     */
+    ITERATE,
+    /**
+     * Evaluate with an index over the whole bucket.
+     */
+    FILTER,
+    /**
+     * Return no results, since another task evaluates the whole bucket with an index.
+     */
+    SKIP
+  }
+
+  private static final int UNDECIDED = -2;
+
+  private static final int ITERATE_ALL = -1;
+
+  private final CompiledValue expression;
+
+  private final int count;
+
+  /**
+   * {@link #ITERATE_ALL}, or the index of the split whose task evaluates the whole bucket with an
+   * index.
+   */
+  private final AtomicInteger plan = new AtomicInteger(UNDECIDED);
+
+  /**
+   * @param expression the collection expression whose iteration is split
+   * @param count the number of splits
+   */
+  public BucketSplit(CompiledValue expression, int count) {
+    this.expression = expression;
+    this.count = count;
+  }
+
+  public CompiledValue getExpression() {
+    return expression;
+  }
+
+  public int getCount() {
+    return count;
+  }
+
+  /**
+   * Returns how the task of the given split evaluates the where clause, given whether its own plan
+   * would evaluate it with an index.
+   */
+  public Evaluation getEvaluation(int splitIndex, boolean evalAsFilter) {
+    plan.compareAndSet(UNDECIDED, evalAsFilter ? splitIndex : ITERATE_ALL);
+    final int decided = plan.get();
+    if (decided == ITERATE_ALL) {
+      return Evaluation.ITERATE;
+    }
+    return decided == splitIndex ? Evaluation.FILTER : Evaluation.SKIP;
+  }
+}
@@ -20,6 +20,7 @@ import org.apache.geode.cache.query.QueryInvocationTargetException;
 import org.apache.geode.cache.query.TypeMismatchException;
 import org.apache.geode.cache.query.internal.aggregate.Avg;
 import org.apache.geode.cache.query.internal.aggregate.AvgBucketNode;
+import org.apache.geode.cache.query.internal.aggregate.AvgDataStoreNode;
 import org.apache.geode.cache.query.internal.aggregate.AvgDistinct;
 import org.apache.geode.cache.query.internal.aggregate.AvgDistinctPRQueryNode;
 import org.apache.geode.cache.query.internal.aggregate.AvgPRQueryNode;
@@ -28,6 +29,7 @@ import org.apache.geode.cache.query.internal.aggregate.CountDistinct;
 import org.apache.geode.cache.query.internal.aggregate.CountDistinctPRQueryNode;
 import org.apache.geode.cache.query.internal.aggregate.CountPRQueryNode;
 import org.apache.geode.cache.query.internal.aggregate.DistinctAggregator;
+import org.apache.geode.cache.query.internal.aggregate.DistinctDataStoreNode;
 import org.apache.geode.cache.query.internal.aggregate.MaxMin;
 import org.apache.geode.cache.query.internal.aggregate.Sum;
 import org.apache.geode.cache.query.internal.aggregate.SumDistinct;
@@ -63,10 +65,13 @@ public class CompiledAggregateFunction extends AbstractCompiledValue {
       TypeMismatchException, NameResolutionException, QueryInvocationTargetException {
     boolean isPRQueryNode = context.getIsPRQueryNode();
     boolean isBucketNode = context.getBucketList() != null;
+    boolean isDataStoreNode = context.getIsDataStoreNode();
     switch (aggFuncType) {
 
       case OQLLexerTokenTypes.SUM:
-        if (isPRQueryNode) {
+        if (isDataStoreNode) {
+          return distinctOnly ? new DistinctDataStoreNode() : new Sum();
+        } else if (isPRQueryNode) {
           return distinctOnly ? new SumDistinctPRQueryNode() : new Sum();
         } else {
           return distinctOnly ? (isBucketNode ? new DistinctAggregator() : new SumDistinct())
@@ -80,7 +85,9 @@ public class CompiledAggregateFunction extends AbstractCompiledValue {
         return new MaxMin(false);
 
       case OQLLexerTokenTypes.AVG:
-        if (isPRQueryNode) {
+        if (isDataStoreNode) {
+          return distinctOnly ? new DistinctDataStoreNode() : new AvgDataStoreNode();
+        } else if (isPRQueryNode) {
           return distinctOnly ? new AvgDistinctPRQueryNode() : new AvgPRQueryNode();
         } else {
           return distinctOnly ? (isBucketNode ? new DistinctAggregator() : new AvgDistinct())
@@ -88,7 +95,9 @@ public class CompiledAggregateFunction extends AbstractCompiledValue {
         }
 
       case OQLLexerTokenTypes.COUNT:
-        if (isPRQueryNode) {
+        if (isDataStoreNode) {
+          return distinctOnly ? new DistinctDataStoreNode() : new CountPRQueryNode();
+        } else if (isPRQueryNode) {
           return distinctOnly ? new CountDistinctPRQueryNode() : new CountPRQueryNode();
         } else {
           return distinctOnly ? (isBucketNode ? new DistinctAggregator() : new CountDistinct())
@@ -86,9 +86,14 @@ public class CompiledComparison extends AbstractCompiledValue
   @Override
   public Object evaluate(ExecutionContext context) throws FunctionDomainException,
       TypeMismatchException, NameResolutionException, QueryInvocationTargetException {
-    Object left = _left.evaluate(context);
-    Object right = _right.evaluate(context);
+    return compare(context, _left.evaluate(context), _right.evaluate(context));
+  }
 
+  /**
+   * Compares the already evaluated operands of this comparison.
+   */
+  Object compare(ExecutionContext context, Object left, Object right)
+      throws TypeMismatchException {
     if (context.isCqQueryContext() && left instanceof Region.Entry) {
       try {
         left = ((Region.Entry<?, ?>) left).getValue();
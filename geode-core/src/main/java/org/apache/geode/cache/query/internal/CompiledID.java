@@ -18,13 +18,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
-import org.apache.geode.cache.Region;
 import org.apache.geode.cache.query.AmbiguousNameException;
 import org.apache.geode.cache.query.FunctionDomainException;
 import org.apache.geode.cache.query.NameResolutionException;
 import org.apache.geode.cache.query.QueryInvocationTargetException;
 import org.apache.geode.cache.query.TypeMismatchException;
-import org.apache.geode.internal.cache.PartitionedRegion;
 
 
 /**
@@ -85,13 +83,7 @@ public class CompiledID extends AbstractCompiledValue {
     CompiledValue v = context.resolve(getId());
     Object obj = v.evaluate(context);
     // check for BucketRegion substitution
-    PartitionedRegion pr = context.getPartitionedRegion();
-    if (pr != null && (obj instanceof Region)) {
-      if (pr.getFullPath().equals(((Region) obj).getFullPath())) {
-        obj = context.getBucketRegion();
-      }
-    }
-    return obj;
+    return PathUtils.substituteBucketRegion(context, obj);
   }
 
   @Override
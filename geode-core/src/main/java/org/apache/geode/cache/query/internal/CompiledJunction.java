@@ -121,13 +121,24 @@ public class CompiledJunction extends AbstractCompiledValue implements Negatable
   @Override
   public Object evaluate(ExecutionContext context) throws FunctionDomainException,
       TypeMismatchException, NameResolutionException, QueryInvocationTargetException {
-    Object r = _operands[0].evaluate(context); // UNDEFINED, null, or a Boolean
+    return evaluate(context, _operator, _operands);
+  }
+
+  /**
+   * Evaluates the given operands and combines their results with the given operator.
+   *
+   * @param operator {@link #LITERAL_and} or {@link #LITERAL_or}
+   */
+  static Object evaluate(ExecutionContext context, int operator, ExpressionEvaluator[] operands)
+      throws FunctionDomainException, TypeMismatchException, NameResolutionException,
+      QueryInvocationTargetException {
+    Object r = operands[0].evaluate(context); // UNDEFINED, null, or a Boolean
     // if it's true, and op is or then return true immediately
     // if it's false and the op is and then return false immediately
     if (r instanceof Boolean) {
-      if ((Boolean) r && _operator == LITERAL_or) {
+      if ((Boolean) r && operator == LITERAL_or) {
         return r;
-      } else if (!(Boolean) r && _operator == LITERAL_and) {
+      } else if (!(Boolean) r && operator == LITERAL_and) {
         return r;
       }
     }
@@ -141,18 +152,18 @@ public class CompiledJunction extends AbstractCompiledValue implements Negatable
               "LITERAL_and/LITERAL_or operands must be of type boolean, not type ' %s '",
               r.getClass().getName()));
     }
-    for (int i = 1; i < _operands.length; i++) {
+    for (int i = 1; i < operands.length; i++) {
       Object ri = null;
       try {
-        ri = _operands[i].evaluate(context); // UNDEFINED, null, or
+        ri = operands[i].evaluate(context); // UNDEFINED, null, or
       } catch (EntryDestroyedException ede) {
         continue;
       }
       // Boolean
       if (ri instanceof Boolean) {
-        if ((Boolean) ri && _operator == LITERAL_or) {
+        if ((Boolean) ri && operator == LITERAL_or) {
           return ri;
-        } else if (!(Boolean) ri && _operator == LITERAL_and) {
+        } else if (!(Boolean) ri && operator == LITERAL_and) {
           return ri;
         }
       }
@@ -166,7 +177,7 @@ public class CompiledJunction extends AbstractCompiledValue implements Negatable
                 ri.getClass().getName()));
       }
       // now do the actual and/or
-      if (_operator == LITERAL_and) {
+      if (operator == LITERAL_and) {
         r = (Boolean) r && (Boolean) ri;
       } else
       // LITERAL_or
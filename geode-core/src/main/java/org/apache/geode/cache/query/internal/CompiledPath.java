@@ -28,7 +28,7 @@ import org.apache.geode.cache.query.NameResolutionException;
 import org.apache.geode.cache.query.QueryInvocationTargetException;
 import org.apache.geode.cache.query.QueryService;
 import org.apache.geode.cache.query.TypeMismatchException;
-import org.apache.geode.internal.cache.PartitionedRegion;
+import org.apache.geode.pdx.internal.TypeRegistry;
 
 
 /**
@@ -42,6 +42,8 @@ import org.apache.geode.internal.cache.PartitionedRegion;
 public class CompiledPath extends AbstractCompiledValue {
   private final CompiledValue _receiver; // the value represented by the expression before the dot
   private final String _tailID; // the identifier after the dot.
+  // reused for all evaluations so that it remembers how the attribute is read
+  private AttributeDescriptor attributeDescriptor;
 
   public CompiledPath(CompiledValue rcvr, String id) {
     _receiver = rcvr;
@@ -148,15 +150,20 @@ public class CompiledPath extends AbstractCompiledValue {
     // getTailID());
     // }
 
-    Object obj = PathUtils.evaluateAttribute(context, evalRcvr, getTailID());
+    Object obj = PathUtils.evaluateAttribute(context, evalRcvr, getTailID(),
+        getAttributeDescriptor(context));
     // check for BucketRegion substitution
-    PartitionedRegion pr = context.getPartitionedRegion();
-    if (pr != null && (obj instanceof Region)) {
-      if (pr.getFullPath().equals(((Region) obj).getFullPath())) {
-        obj = context.getBucketRegion();
-      }
+    return PathUtils.substituteBucketRegion(context, obj);
+  }
+
+  private AttributeDescriptor getAttributeDescriptor(ExecutionContext context) {
+    TypeRegistry pdxRegistry = context.getCache().getPdxRegistry();
+    AttributeDescriptor descriptor = attributeDescriptor;
+    if (descriptor == null || descriptor.getPdxRegistry() != pdxRegistry) {
+      descriptor = new AttributeDescriptor(pdxRegistry, _tailID);
+      attributeDescriptor = descriptor;
     }
-    return obj;
+    return descriptor;
   }
 
   public String getTailID() {
@@ -22,6 +22,7 @@ import org.apache.geode.cache.Region;
 import org.apache.geode.cache.query.NameResolutionException;
 import org.apache.geode.cache.query.RegionNotFoundException;
 import org.apache.geode.internal.cache.BucketRegion;
+import org.apache.geode.internal.cache.LocalDataSet;
 import org.apache.geode.internal.cache.PartitionedRegion;
 
 
@@ -91,9 +92,13 @@ public class CompiledRegion extends AbstractCompiledValue {
 
     if (context.isCqQueryContext()) {
       return new QRegion(rgn, true, context);
-    } else {
-      return new QRegion(rgn, false, context);
     }
+    QRegion qRegion = new QRegion(rgn, false, context);
+    if (context.isBucketSplit(this) && qRegion.getRegion() instanceof LocalDataSet) {
+      ((LocalDataSet) qRegion.getRegion()).setBucketSplit(context.getBucketSplitIndex(),
+          context.getBucketSplitCount());
+    }
+    return qRegion;
   }
 
   @Override
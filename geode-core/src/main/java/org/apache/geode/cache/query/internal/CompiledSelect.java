@@ -472,7 +472,10 @@ public class CompiledSelect extends AbstractCompiledValue {
             context.cachePut(whereClause, CLAUSE_EVALUATED);
           }
           try {
-            evalAsFilters = planInfo.evalAsFilter;
+            BucketSplit.Evaluation splitEvaluation = context.getBucketSplitEvaluation(
+                ((CompiledIteratorDef) iterators.get(0)).getCollectionExpr(),
+                planInfo.evalAsFilter);
+            evalAsFilters = splitEvaluation == BucketSplit.Evaluation.FILTER;
             // let context know if there is exactly one index lookup
             context.setOneIndexLookup(planInfo.indexes.size() == 1);
             if (evalAsFilters) {
@@ -535,6 +538,11 @@ public class CompiledSelect extends AbstractCompiledValue {
                     .beforeApplyingProjectionOnFilterEvaluatedResults(result);
                 result = applyProjectionOnCollection(result, context, !needsTopLevelOrdering);
               }
+            } else if (splitEvaluation == BucketSplit.Evaluation.SKIP) {
+              // another task of this bucket evaluates the where clause with an index over the
+              // whole bucket
+              ((QueryExecutionContext) context).setIndexUsed(true);
+              result = prepareEmptyResultSet(context, false);
             } else {
               // otherwise iterate over the single from var to evaluate
               result = doIterationEvaluate(context, true);
@@ -691,9 +699,26 @@ public class CompiledSelect extends AbstractCompiledValue {
         return results;
       }
     }
+    ExpressionEvaluator whereClauseEvaluator = null;
+    ExpressionEvaluator[] projectionEvaluators = null;
+    if (QueryCompiler.COMPILE_EXPRESSIONS) {
+      if (evaluateWhereClause) {
+        whereClauseEvaluator = QueryCompiler.compile(whereClause, context);
+      }
+      if (projAttrs != null) {
+        projectionEvaluators = new ExpressionEvaluator[projAttrs.size()];
+        for (int i = 0; i < projectionEvaluators.length; i++) {
+          Object[] projDef = (Object[]) projAttrs.get(i);
+          projectionEvaluators[i] = QueryCompiler.compile((CompiledValue) projDef[1], context);
+        }
+      }
+    } else if (evaluateWhereClause) {
+      whereClauseEvaluator = whereClause;
+    }
     int numElementsInResult = 0;
     try {
-      doNestedIterations(0, results, context, evaluateWhereClause, numElementsInResult);
+      doNestedIterations(0, results, context, whereClauseEvaluator, projectionEvaluators,
+          numElementsInResult);
     } catch (CompiledSelect.NullIteratorException ignore) {
       return null;
     }
@@ -756,16 +781,22 @@ public class CompiledSelect extends AbstractCompiledValue {
     return cIn.optimizeBulkGet(rgn, context);
   }
 
-  // returns the number of elements added in the return ResultSet
+  /**
+   * @param whereClauseEvaluator evaluates the where clause, or null if it is not to be evaluated
+   * @param projectionEvaluators evaluate the projection attributes, or null to evaluate them as
+   *        they are
+   * @return the number of elements added in the return ResultSet
+   */
   private int doNestedIterations(int level, SelectResults results, ExecutionContext context,
-      boolean evaluateWhereClause, int numElementsInResult)
+      ExpressionEvaluator whereClauseEvaluator, ExpressionEvaluator[] projectionEvaluators,
+      int numElementsInResult)
       throws TypeMismatchException, FunctionDomainException, NameResolutionException,
       QueryInvocationTargetException, CompiledSelect.NullIteratorException {
     List iterList = context.getCurrentIterators();
     if (level == iterList.size()) {
       boolean addToResults = true;
-      if (evaluateWhereClause) {
-        Object result = whereClause.evaluate(context);
+      if (whereClauseEvaluator != null) {
+        Object result = whereClauseEvaluator.evaluate(context);
         QueryObserver observer = QueryObserverHolder.getInstance();
         observer.afterIterationEvaluation(result);
         if (result == null) {
@@ -789,8 +820,8 @@ public class CompiledSelect extends AbstractCompiledValue {
         }
       }
       if (addToResults) {
-        int occurrence =
-            applyProjectionAndAddToResultSet(context, results, orderByAttrs == null);
+        int occurrence = applyProjectionAndAddToResultSet(context, results, orderByAttrs == null,
+            projectionEvaluators);
         // If the occurrence is greater than 1, then only in case of
         // non distinct query should it be treated as contributing to size
         // else duplication will be eliminated when making it distinct using
@@ -833,8 +864,8 @@ public class CompiledSelect extends AbstractCompiledValue {
         rIter.setCurrent(aSr);
         QueryObserver observer = QueryObserverHolder.getInstance();
         observer.beforeIterationEvaluation(rIter, aSr);
-        numElementsInResult = doNestedIterations(level + 1, results, context, evaluateWhereClause,
-            numElementsInResult);
+        numElementsInResult = doNestedIterations(level + 1, results, context, whereClauseEvaluator,
+            projectionEvaluators, numElementsInResult);
         Integer limitValue = evaluateLimitValue(context, limit);
         if (orderByAttrs == null && limitValue > -1 && numElementsInResult == limitValue) {
           break;
@@ -1136,6 +1167,17 @@ public class CompiledSelect extends AbstractCompiledValue {
   private int applyProjectionAndAddToResultSet(ExecutionContext context, SelectResults resultSet,
       boolean ignoreOrderBy) throws FunctionDomainException, TypeMismatchException,
       NameResolutionException, QueryInvocationTargetException {
+    return applyProjectionAndAddToResultSet(context, resultSet, ignoreOrderBy, null);
+  }
+
+  /**
+   * @param projectionEvaluators evaluate the projection attributes, or null to evaluate them as
+   *        they are
+   */
+  private int applyProjectionAndAddToResultSet(ExecutionContext context, SelectResults resultSet,
+      boolean ignoreOrderBy, ExpressionEvaluator[] projectionEvaluators)
+      throws FunctionDomainException, TypeMismatchException, NameResolutionException,
+      QueryInvocationTargetException {
     List currrentRuntimeIters = context.getCurrentIterators();
 
     int occurrence = 0;
@@ -1289,8 +1331,12 @@ public class CompiledSelect extends AbstractCompiledValue {
       int projCount = projAttrs.size();
       Object[] values = new Object[projCount];
       for (int i = 0; i < projCount; i++) {
-        Object[] projDef = (Object[]) projAttrs.get(i);
-        values[i] = ((CompiledValue) projDef[1]).evaluate(context);
+        if (projectionEvaluators != null) {
+          values[i] = projectionEvaluators[i].evaluate(context);
+        } else {
+          Object[] projDef = (Object[]) projAttrs.get(i);
+          values[i] = ((CompiledValue) projDef[1]).evaluate(context);
+        }
         // For local queries with distinct, deserialize all PdxInstances
         // as we do not have a way to compare Pdx and non Pdx objects in case
         // the cache has a mix of pdx and non pdx objects.
@@ -28,7 +28,7 @@ import org.apache.geode.cache.query.internal.parse.OQLLexerTokenTypes;
 import org.apache.geode.cache.query.types.ObjectType;
 import org.apache.geode.util.internal.GeodeGlossary;
 
-public interface CompiledValue {
+public interface CompiledValue extends ExpressionEvaluator {
 
   // extra node types: use negative numbers so they don't collide with token types
   int COMPARISON = -1;
@@ -106,6 +106,7 @@ public interface CompiledValue {
 
   ObjectType getTypecast();
 
+  @Override
   Object evaluate(ExecutionContext context) throws FunctionDomainException, TypeMismatchException,
       NameResolutionException, QueryInvocationTargetException;
 
@@ -96,6 +96,7 @@ public class ExecutionContext {
   private boolean distinct = false;
   private Object currentProjectionField = null;
   private boolean isPRQueryNode = false;
+  private boolean isDataStoreNode = false;
 
   private Optional<ScheduledFuture> cancellationTask;
   private volatile CacheRuntimeException canceledException;
@@ -648,6 +649,36 @@ public class ExecutionContext {
     throw new UnsupportedOperationException("Method should not have been called");
   }
 
+  public void setBucketSplit(BucketSplit bucketSplit, int splitIndex) {
+    throw new UnsupportedOperationException("Method should not have been called");
+  }
+
+  /**
+   * Returns true if the given collection expression should only iterate over one split of the
+   * local buckets, as set by {@link #setBucketSplit(BucketSplit, int)}.
+   */
+  public boolean isBucketSplit(CompiledValue collectionExpression) {
+    return false;
+  }
+
+  public int getBucketSplitIndex() {
+    return 0;
+  }
+
+  public int getBucketSplitCount() {
+    return 1;
+  }
+
+  /**
+   * Returns how the where clause of a select iterating over the given collection expression is
+   * evaluated, given whether its plan would use an index. Unless that iteration is split this
+   * follows the plan.
+   */
+  public BucketSplit.Evaluation getBucketSplitEvaluation(CompiledValue collectionExpression,
+      boolean evalAsFilter) {
+    return evalAsFilter ? BucketSplit.Evaluation.FILTER : BucketSplit.Evaluation.ITERATE;
+  }
+
   public PdxString getSavedPdxString(int index) {
     throw new UnsupportedOperationException("Method should not have been called");
   }
@@ -680,6 +711,18 @@ public class ExecutionContext {
     return isPRQueryNode;
   }
 
+  /**
+   * Marks this context as combining the partial aggregates of the buckets of a data store into a
+   * partial aggregate for the data store, which is then completed on the PR query node.
+   */
+  public void setIsDataStoreNode(boolean isDataStoreNode) {
+    this.isDataStoreNode = isDataStoreNode;
+  }
+
+  boolean getIsDataStoreNode() {
+    return isDataStoreNode;
+  }
+
   /**
    * Check to see if the query execution was canceled. The query gets canceled by the QueryMonitor
    * if it takes more than the max query execution time or low memory situations
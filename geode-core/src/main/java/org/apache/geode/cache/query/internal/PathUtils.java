@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.StringTokenizer;
 
+import org.apache.geode.cache.Region;
 import org.apache.geode.cache.query.AmbiguousNameException;
 import org.apache.geode.cache.query.NameNotFoundException;
 import org.apache.geode.cache.query.NameResolutionException;
@@ -31,6 +32,7 @@ import org.apache.geode.cache.query.TypeMismatchException;
 import org.apache.geode.cache.query.internal.parse.OQLLexerTokenTypes;
 import org.apache.geode.cache.query.internal.types.TypeUtils;
 import org.apache.geode.cache.query.types.ObjectType;
+import org.apache.geode.internal.cache.PartitionedRegion;
 
 
 /**
@@ -63,6 +65,16 @@ public class PathUtils {
 
   public static Object evaluateAttribute(ExecutionContext context, Object target, String attribute)
       throws NameNotFoundException, QueryInvocationTargetException {
+    return evaluateAttribute(context, target, attribute, null);
+  }
+
+  /**
+   * Evaluates the attribute of the target, reusing the given descriptor of the attribute if it is
+   * not null. Reusing a descriptor lets it remember how the attribute is read between rows.
+   */
+  static Object evaluateAttribute(ExecutionContext context, Object target, String attribute,
+      AttributeDescriptor descriptor)
+      throws NameNotFoundException, QueryInvocationTargetException {
     if (target instanceof Struct) {
       Struct struct = (Struct) target;
       try {
@@ -73,8 +85,10 @@ public class PathUtils {
     }
 
     try {
-      return new AttributeDescriptor(context.getCache().getPdxRegistry(), attribute)
-          .read(target, context);
+      if (descriptor == null) {
+        descriptor = new AttributeDescriptor(context.getCache().getPdxRegistry(), attribute);
+      }
+      return descriptor.read(target, context);
     } catch (NameNotFoundException nfe) {
       if (DefaultQueryService.QUERY_HETEROGENEOUS_OBJECTS
           || DefaultQueryService.TEST_QUERY_HETEROGENEOUS_OBJECTS) {
@@ -85,6 +99,20 @@ public class PathUtils {
     }
   }
 
+  /**
+   * Returns the bucket being queried in place of its partitioned region, if the given value is the
+   * partitioned region the query is executed on.
+   */
+  static Object substituteBucketRegion(ExecutionContext context, Object obj) {
+    PartitionedRegion pr = context.getPartitionedRegion();
+    if (pr != null && (obj instanceof Region)) {
+      if (pr.getFullPath().equals(((Region) obj).getFullPath())) {
+        obj = context.getBucketRegion();
+      }
+    }
+    return obj;
+  }
+
   /*
    * This was added as part of CQ performance changes. The change is done to re-use the
    * AttributeDescriptor object instead of creating it each time.
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.query.internal;
+
+import java.util.List;
+
+import org.apache.geode.annotations.internal.MutableForTesting;
+import org.apache.geode.cache.query.AmbiguousNameException;
+import org.apache.geode.cache.query.TypeMismatchException;
+import org.apache.geode.cache.query.internal.parse.OQLLexerTokenTypes;
+import org.apache.geode.util.internal.GeodeGlossary;
+
+/**
+ * Compiles the expressions of a query into {@link ExpressionEvaluator}s for one execution.
+ * <p>
+ * Interpreting a {@link CompiledValue} tree resolves every identifier against the scopes of the
+ * {@link ExecutionContext} for every row: an implicit attribute looks for the iterator that has it
+ * through reflection, and every attribute read creates a new {@link AttributeDescriptor}. None of
+ * that changes while the iterators of a scope are being iterated, so the compiled evaluators
+ * resolve identifiers to their {@link RuntimeIterator} once and reuse one {@link AttributeDescriptor}
+ * per attribute for all rows.
+ * <p>
+ * Operators are evaluated with the same code the interpreter uses, so results are identical.
+ * Expressions that are not supported are left to the interpreter, as are all expressions of CQs.
+ */
+final class QueryCompiler {
+
+  /**
+   * Whether the WHERE clause and projections of a query are compiled before iterating over its
+   * collections (defaults to false).
+   */
+  @MutableForTesting
+  static boolean COMPILE_EXPRESSIONS =
+      Boolean.getBoolean(GeodeGlossary.GEMFIRE_PREFIX + "Query.COMPILE_EXPRESSIONS");
+
+  private QueryCompiler() {}
+
+  /**
+   * Compiles the expression against the current scope of the context.
+   *
+   * @return an evaluator equivalent to the expression for as long as the current scope is not
+   *         changed, which is the expression itself if it can not be compiled
+   */
+  static ExpressionEvaluator compile(CompiledValue expression, ExecutionContext context) {
+    if (context.isCqQueryContext()) {
+      return expression;
+    }
+    try {
+      return compileExpression(expression, context);
+    } catch (AmbiguousNameException | TypeMismatchException e) {
+      // leave it to the interpreter to report, if a row is ever evaluated
+      return expression;
+    }
+  }
+
+  private static ExpressionEvaluator compileExpression(CompiledValue expression,
+      ExecutionContext context) throws AmbiguousNameException, TypeMismatchException {
+    switch (expression.getType()) {
+      case CompiledValue.JUNCTION:
+        return compileJunction((CompiledJunction) expression, context);
+      case CompiledValue.COMPARISON:
+        return compileComparison((CompiledComparison) expression, context);
+      case OQLLexerTokenTypes.LITERAL_not:
+        return compileNegation((CompiledNegation) expression, context);
+      case OQLLexerTokenTypes.Identifier:
+        return compileIdentifier((CompiledID) expression, context);
+      case CompiledValue.PATH:
+        return compilePath((CompiledPath) expression, context);
+      default:
+        return expression;
+    }
+  }
+
+  private static ExpressionEvaluator compileJunction(CompiledJunction junction,
+      ExecutionContext context) throws AmbiguousNameException, TypeMismatchException {
+    List<?> children = junction.getChildren();
+    ExpressionEvaluator[] operands = new ExpressionEvaluator[children.size()];
+    for (int i = 0; i < operands.length; i++) {
+      operands[i] = compileExpression((CompiledValue) children.get(i), context);
+    }
+    int operator = junction.getOperator();
+    return c -> CompiledJunction.evaluate(c, operator, operands);
+  }
+
+  private static ExpressionEvaluator compileComparison(CompiledComparison comparison,
+      ExecutionContext context) throws AmbiguousNameException, TypeMismatchException {
+    ExpressionEvaluator left = compileExpression(comparison._left, context);
+    ExpressionEvaluator right = compileExpression(comparison._right, context);
+    return c -> comparison.compare(c, left.evaluate(c), right.evaluate(c));
+  }
+
+  private static ExpressionEvaluator compileNegation(CompiledNegation negation,
+      ExecutionContext context) throws AmbiguousNameException, TypeMismatchException {
+    ExpressionEvaluator value =
+        compileExpression((CompiledValue) negation.getChildren().get(0), context);
+    return c -> CompiledNegation.negateObject(value.evaluate(c));
+  }
+
+  private static ExpressionEvaluator compileIdentifier(CompiledID id, ExecutionContext context)
+      throws AmbiguousNameException, TypeMismatchException {
+    CompiledValue resolved = context.resolve(id.getId());
+    ExpressionEvaluator value;
+    if (resolved instanceof RuntimeIterator) {
+      value = resolved;
+    } else if (resolved instanceof CompiledPath) {
+      // an implicit attribute of an iterator
+      value = compilePath((CompiledPath) resolved, context);
+    } else {
+      return id;
+    }
+    return c -> PathUtils.substituteBucketRegion(c, value.evaluate(c));
+  }
+
+  private static ExpressionEvaluator compilePath(CompiledPath path, ExecutionContext context)
+      throws AmbiguousNameException, TypeMismatchException {
+    ExpressionEvaluator receiver = compileExpression(path.getReceiver(), context);
+    String attribute = path.getTailID();
+    AttributeDescriptor descriptor =
+        new AttributeDescriptor(context.getCache().getPdxRegistry(), attribute);
+    return c -> PathUtils.substituteBucketRegion(c,
+        PathUtils.evaluateAttribute(c, receiver.evaluate(c), attribute, descriptor));
+  }
+}
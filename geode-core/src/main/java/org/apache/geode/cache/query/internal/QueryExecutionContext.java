@@ -41,6 +41,10 @@ public class QueryExecutionContext extends ExecutionContext {
 
   private List bucketList;
 
+  private BucketSplit bucketSplit;
+
+  private int bucketSplitIndex = 0;
+
   private boolean indexUsed = false;
 
   /**
@@ -170,6 +174,50 @@ public class QueryExecutionContext extends ExecutionContext {
     return bucketList;
   }
 
+  /**
+   * Restricts the iteration of the split expression to the entries of the local buckets whose keys
+   * fall into split {@code splitIndex} of {@code bucketSplit}, so that several tasks can scan the
+   * same bucket in parallel.
+   */
+  @Override
+  public void setBucketSplit(BucketSplit bucketSplit, int splitIndex) {
+    this.bucketSplit = bucketSplit;
+    bucketSplitIndex = splitIndex;
+  }
+
+  @Override
+  public boolean isBucketSplit(CompiledValue collectionExpression) {
+    return bucketSplit != null && collectionExpression == bucketSplit.getExpression();
+  }
+
+  @Override
+  public int getBucketSplitIndex() {
+    return bucketSplitIndex;
+  }
+
+  @Override
+  public int getBucketSplitCount() {
+    return bucketSplit == null ? 1 : bucketSplit.getCount();
+  }
+
+  /**
+   * Agrees on the evaluation with the other tasks of a split bucket. If this task evaluates the
+   * where clause with an index it does so over the whole bucket, so the split is dropped.
+   */
+  @Override
+  public BucketSplit.Evaluation getBucketSplitEvaluation(CompiledValue collectionExpression,
+      boolean evalAsFilter) {
+    if (!isBucketSplit(collectionExpression)) {
+      return super.getBucketSplitEvaluation(collectionExpression, evalAsFilter);
+    }
+    BucketSplit.Evaluation evaluation = bucketSplit.getEvaluation(bucketSplitIndex, evalAsFilter);
+    if (evaluation == BucketSplit.Evaluation.FILTER) {
+      bucketSplit = null;
+      bucketSplitIndex = 0;
+    }
+    return evaluation;
+  }
+
   /**
    * creates new PdxString from String and caches it
    */
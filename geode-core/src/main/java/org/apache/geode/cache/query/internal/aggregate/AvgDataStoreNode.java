@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.query.internal.aggregate;
+
+/**
+ * The aggregator for computing average which is used on the data store node to combine the partial
+ * results of its buckets for partitioned region based queries. The result stays a partial result
+ * that is completed on the PR query node.
+ */
+public class AvgDataStoreNode extends Sum {
+  private long count = 0;
+
+  long getCount() {
+    return count;
+  }
+
+  /**
+   * Takes the input of data received from bucket nodes. The data is of the form of two element
+   * array. The first element is the number of values, while the second element is the sum of the
+   * values.
+   */
+  @Override
+  public void accumulate(Object value) {
+    Object[] array = (Object[]) value;
+    count += ((Long) array[0]);
+    super.accumulate(array[1]);
+  }
+
+  /**
+   * Returns a two element array of the total number of values & the computed sum of the values.
+   */
+  @Override
+  public Object terminate() {
+    return new Object[] {count, super.terminate()};
+  }
+}
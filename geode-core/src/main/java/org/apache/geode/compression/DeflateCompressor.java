@@ -0,0 +1,385 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.apache.geode.compression;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * An implementation of {@link Compressor} for the deflate compression codec that ships with the
+ * JDK.
+ * <p>
+ * Small values, such as the serialized form of PDX or JSON documents, have little redundancy of
+ * their own but are usually very similar to one another. To take advantage of that, the first
+ * values given to an instance are sampled and used to train a preset dictionary that all later
+ * values are compressed against. The dictionary is only adopted if it actually shrinks the sampled
+ * values.
+ * <p>
+ * Values that do not compress to at most the configured ratio of their original size are stored
+ * as-is, so that incompressible data does not pay for decompression on every read.
+ * <p>
+ * The trained dictionary only lives in the memory of the instance that trained it. This is safe
+ * because compressed values never leave the member that compressed them, but it means that an
+ * instance must only be asked to decompress values it compressed itself, which is always the case
+ * for the compressor of a region.
+ *
+ * @since Geode 1.16
+ */
+public class DeflateCompressor implements Compressor, Serializable {
+  private static final long serialVersionUID = -1640484823207893457L;
+
+  /**
+   * The default number of values sampled to train the dictionary.
+   */
+  public static final int DEFAULT_DICTIONARY_SAMPLE_COUNT = 64;
+
+  /**
+   * The default largest compressed size, relative to the original size, that is worth keeping.
+   */
+  public static final double DEFAULT_MAXIMUM_RATIO = 0.9;
+
+  /**
+   * The largest dictionary deflate can make use of, which is the size of its window.
+   */
+  static final int MAXIMUM_DICTIONARY_SIZE = 32 * 1024;
+
+  /**
+   * Values are stored as-is.
+   */
+  static final byte STORED = 0;
+
+  /**
+   * Values are compressed without a dictionary.
+   */
+  static final byte DEFLATED = 1;
+
+  /**
+   * Values are compressed against the trained dictionary.
+   */
+  static final byte DEFLATED_WITH_DICTIONARY = 2;
+
+  private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+  private static final ThreadLocal<Deflater> deflater = ThreadLocal.withInitial(Deflater::new);
+
+  private static final ThreadLocal<Inflater> inflater = ThreadLocal.withInitial(Inflater::new);
+
+  private final int compressionLevel;
+
+  private final int dictionarySampleCount;
+
+  private final double maximumRatio;
+
+  /**
+   * The samples collected so far, or null once the dictionary is trained or sampling is disabled.
+   * Guarded by this.
+   */
+  private transient List<byte[]> samples;
+
+  /**
+   * Set once enough samples have been collected, so that later values do not lock this instance.
+   */
+  private transient volatile boolean samplingFinished;
+
+  private transient volatile boolean dictionaryRejected;
+
+  private transient volatile byte[] dictionary;
+
+  /**
+   * Create a new instance of the DeflateCompressor that favors speed, trains a dictionary from the
+   * first {@link #DEFAULT_DICTIONARY_SAMPLE_COUNT} values and stores values that do not shrink to
+   * {@link #DEFAULT_MAXIMUM_RATIO} of their size as-is.
+   */
+  public DeflateCompressor() {
+    this(Deflater.BEST_SPEED, DEFAULT_DICTIONARY_SAMPLE_COUNT, DEFAULT_MAXIMUM_RATIO);
+  }
+
+  /**
+   * Create a new instance of the DeflateCompressor.
+   *
+   * @param compressionLevel the deflate compression level, from {@link Deflater#BEST_SPEED} to
+   *        {@link Deflater#BEST_COMPRESSION}
+   * @param dictionarySampleCount the number of values sampled to train the dictionary, or zero to
+   *        never use a dictionary
+   * @param maximumRatio the largest compressed size, relative to the original size, that is worth
+   *        keeping; values that compress worse than this are stored as-is
+   */
+  public DeflateCompressor(int compressionLevel, int dictionarySampleCount, double maximumRatio) {
+    if (compressionLevel < Deflater.BEST_SPEED || compressionLevel > Deflater.BEST_COMPRESSION) {
+      throw new IllegalArgumentException(
+          "compressionLevel must be between 1 and 9 but was " + compressionLevel);
+    }
+    if (dictionarySampleCount < 0) {
+      throw new IllegalArgumentException(
+          "dictionarySampleCount must not be negative but was " + dictionarySampleCount);
+    }
+    if (!(maximumRatio > 0 && maximumRatio <= 1)) {
+      throw new IllegalArgumentException(
+          "maximumRatio must be greater than 0 and at most 1 but was " + maximumRatio);
+    }
+    this.compressionLevel = compressionLevel;
+    this.dictionarySampleCount = dictionarySampleCount;
+    this.maximumRatio = maximumRatio;
+  }
+
+  @Override
+  public byte[] compress(byte[] input) {
+    byte[] dictionary = this.dictionary;
+    if (dictionary == null && dictionarySampleCount > 0 && !samplingFinished
+        && !dictionaryRejected) {
+      dictionary = sample(input);
+    }
+
+    // one header byte plus the largest compressed size worth keeping
+    int limit = 1 + (int) (input.length * maximumRatio);
+    byte[] compressed = null;
+    if (dictionary != null) {
+      compressed = deflate(input, dictionary, limit);
+    }
+    if (compressed == null) {
+      compressed = deflate(input, null, limit);
+    }
+    if (compressed == null) {
+      compressed = new byte[input.length + 1];
+      compressed[0] = STORED;
+      System.arraycopy(input, 0, compressed, 1, input.length);
+    }
+    return compressed;
+  }
+
+  @Override
+  public byte[] decompress(byte[] input) {
+    if (input.length == 0) {
+      throw new CompressionException("Compressed data is empty");
+    }
+    switch (input[0]) {
+      case STORED:
+        return Arrays.copyOfRange(input, 1, input.length);
+      case DEFLATED:
+      case DEFLATED_WITH_DICTIONARY:
+        return inflate(input);
+      default:
+        throw new CompressionException("Unknown compressed data format " + input[0]);
+    }
+  }
+
+  /**
+   * Returns the dictionary values are compressed against, or null if it has not been trained or
+   * was not worth using.
+   */
+  byte[] getDictionary() {
+    return dictionary;
+  }
+
+  /**
+   * Returns true if the sampled values did not train a dictionary worth using.
+   */
+  boolean isDictionaryRejected() {
+    return dictionaryRejected;
+  }
+
+  /**
+   * Adds a value to the samples, training the dictionary once enough values have been collected.
+   * Only the caller that adds the last sample trains the dictionary, and it does so without holding
+   * the lock so that other values are compressed without a dictionary in the meantime.
+   *
+   * @return the trained dictionary, or null if there is none
+   */
+  private byte[] sample(byte[] input) {
+    List<byte[]> collected;
+    synchronized (this) {
+      if (samplingFinished) {
+        return dictionary;
+      }
+      if (samples == null) {
+        samples = new ArrayList<>(dictionarySampleCount);
+      }
+      samples.add(input.clone());
+      if (samples.size() < dictionarySampleCount) {
+        return null;
+      }
+      collected = samples;
+      samples = null;
+      samplingFinished = true;
+    }
+
+    byte[] trained = train(collected);
+    if (trained == null) {
+      dictionaryRejected = true;
+    } else {
+      dictionary = trained;
+    }
+    return trained;
+  }
+
+  /**
+   * Builds a dictionary from the given samples if it shrinks values it was not built from.
+   * <p>
+   * The last quarter of the samples is held out and compressed against a dictionary built from the
+   * rest, both with and without it. Only if that pays off is the dictionary built from all samples.
+   *
+   * @return the dictionary, or null if compressing against it does not shrink values
+   */
+  private byte[] train(List<byte[]> samples) {
+    int heldOut = Math.max(1, samples.size() / 4);
+    List<byte[]> trainingSamples = samples.subList(0, samples.size() - heldOut);
+    byte[] candidate = buildDictionary(trainingSamples);
+    if (candidate == null) {
+      return null;
+    }
+
+    long withDictionary = 0;
+    long withoutDictionary = 0;
+    for (byte[] sample : samples.subList(samples.size() - heldOut, samples.size())) {
+      withDictionary += compressedSize(sample, candidate);
+      withoutDictionary += compressedSize(sample, null);
+    }
+    if (withDictionary >= withoutDictionary) {
+      return null;
+    }
+    return buildDictionary(samples);
+  }
+
+  /**
+   * Deflate finds matches closest to the end of the dictionary most cheaply, so the dictionary is
+   * made of the most recent samples, up to the size of the deflate window.
+   *
+   * @return the dictionary, or null if the samples are empty
+   */
+  static byte[] buildDictionary(List<byte[]> samples) {
+    long sampledBytes = 0;
+    for (byte[] sample : samples) {
+      sampledBytes += sample.length;
+    }
+    int size = (int) Math.min(sampledBytes, MAXIMUM_DICTIONARY_SIZE);
+    if (size == 0) {
+      return null;
+    }
+    byte[] dictionary = new byte[size];
+    int position = size;
+    for (int i = samples.size() - 1; i >= 0 && position > 0; i--) {
+      byte[] sample = samples.get(i);
+      int length = Math.min(sample.length, position);
+      position -= length;
+      System.arraycopy(sample, sample.length - length, dictionary, position, length);
+    }
+    return dictionary;
+  }
+
+  private int compressedSize(byte[] input, byte[] dictionary) {
+    byte[] compressed = deflate(input, dictionary, MAX_ARRAY_SIZE);
+    return compressed == null ? input.length : compressed.length;
+  }
+
+  /**
+   * Compresses the input into at most {@code limit} bytes, including the header byte.
+   *
+   * @return the compressed bytes, or null if they do not fit in {@code limit} bytes
+   */
+  private byte[] deflate(byte[] input, byte[] dictionary, int limit) {
+    Deflater deflater = DeflateCompressor.deflater.get();
+    try {
+      deflater.setLevel(compressionLevel);
+      if (dictionary != null) {
+        deflater.setDictionary(dictionary);
+      }
+      deflater.setInput(input);
+      deflater.finish();
+
+      byte[] buffer = new byte[(int) Math.min(limit, input.length + 64L)];
+      buffer[0] = dictionary == null ? DEFLATED : DEFLATED_WITH_DICTIONARY;
+      int length = 1;
+      while (!deflater.finished()) {
+        if (length == buffer.length) {
+          if (buffer.length == limit) {
+            return null;
+          }
+          buffer = Arrays.copyOf(buffer, (int) Math.min(limit, buffer.length * 2L));
+        }
+        length += deflater.deflate(buffer, length, buffer.length - length);
+      }
+      return length == buffer.length ? buffer : Arrays.copyOf(buffer, length);
+    } finally {
+      deflater.reset();
+    }
+  }
+
+  private byte[] inflate(byte[] input) {
+    Inflater inflater = DeflateCompressor.inflater.get();
+    try {
+      inflater.setInput(input, 1, input.length - 1);
+      byte[] buffer = new byte[(int) Math.min(MAX_ARRAY_SIZE, Math.max(64, input.length * 4L))];
+      int length = 0;
+      while (!inflater.finished()) {
+        if (length == buffer.length) {
+          if (buffer.length == MAX_ARRAY_SIZE) {
+            throw new CompressionException("Decompressed data is too large");
+          }
+          buffer = Arrays.copyOf(buffer, (int) Math.min(MAX_ARRAY_SIZE, buffer.length * 2L));
+        }
+        int inflated = inflater.inflate(buffer, length, buffer.length - length);
+        length += inflated;
+        if (inflated == 0) {
+          if (inflater.needsDictionary()) {
+            byte[] dictionary = this.dictionary;
+            if (input[0] != DEFLATED_WITH_DICTIONARY || dictionary == null) {
+              throw new CompressionException(
+                  "Compressed data requires a dictionary that this compressor does not have");
+            }
+            inflater.setDictionary(dictionary);
+          } else if (inflater.needsInput()) {
+            throw new CompressionException("Compressed data is truncated");
+          }
+        }
+      }
+      return length == buffer.length ? buffer : Arrays.copyOf(buffer, length);
+    } catch (DataFormatException | IllegalArgumentException e) {
+      throw new CompressionException(e);
+    } finally {
+      inflater.reset();
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    int result = getClass().getName().hashCode();
+    result = 31 * result + compressionLevel;
+    result = 31 * result + dictionarySampleCount;
+    result = 31 * result + Double.hashCode(maximumRatio);
+    return result;
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if (other == null || !getClass().getName().equals(other.getClass().getName())) {
+      return false;
+    }
+    if (!(other instanceof DeflateCompressor)) {
+      // loaded by another class loader
+      return true;
+    }
+
+    DeflateCompressor that = (DeflateCompressor) other;
+    return compressionLevel == that.compressionLevel
+        && dictionarySampleCount == that.dictionarySampleCount
+        && Double.compare(maximumRatio, that.maximumRatio) == 0;
+  }
+}
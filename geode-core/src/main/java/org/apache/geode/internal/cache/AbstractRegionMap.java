@@ -270,16 +270,20 @@ public abstract class AbstractRegionMap extends BaseRegionMap
   @Override
   public RegionEntry putEntryIfAbsent(Object key, RegionEntry regionEntry) {
     RegionEntry oldRe = (RegionEntry) getEntryMap().putIfAbsent(key, regionEntry);
-    if (oldRe == null && (regionEntry instanceof OffHeapRegionEntry) && _isOwnerALocalRegion()
-        && _getOwner().isThisRegionBeingClosedOrDestroyed()) {
-      // prevent orphan during concurrent destroy (#48068)
-      Object v = regionEntry.getValue();
-      if (v != Token.REMOVED_PHASE1 && v != Token.REMOVED_PHASE2 && v instanceof StoredObject
-          && ((StoredObject) v).hasRefCount()) {
-        if (getEntryMap().remove(key, regionEntry)) {
-          ((OffHeapRegionEntry) regionEntry).release();
+    if (oldRe == null && (regionEntry instanceof OffHeapRegionEntry)) {
+      if (_isOwnerALocalRegion() && _getOwner().isThisRegionBeingClosedOrDestroyed()) {
+        // prevent orphan during concurrent destroy (#48068)
+        Object v = regionEntry.getValue();
+        if (v != Token.REMOVED_PHASE1 && v != Token.REMOVED_PHASE2 && v instanceof StoredObject
+            && ((StoredObject) v).hasRefCount()) {
+          if (getEntryMap().remove(key, regionEntry)) {
+            ((OffHeapRegionEntry) regionEntry).release();
+            return null;
+          }
         }
       }
+      // only entries that made it into the map move their key off-heap
+      ((OffHeapRegionEntry) regionEntry).storeKeyOffHeap();
     }
     return oldRe;
   }
@@ -625,6 +629,9 @@ public abstract class AbstractRegionMap extends BaseRegionMap
       _getOwner().getDiskRegion().replaceIncompatibleEntry((DiskEntry) oldRe, (DiskEntry) newRe);
     }
     getEntryMap().put(newRe.getKey(), newRe);
+    if (newRe instanceof OffHeapRegionEntry) {
+      ((OffHeapRegionEntry) newRe).storeKeyOffHeap();
+    }
   }
 
   @Override
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.apache.geode.annotations.VisibleForTesting;
+
+/**
+ * Keeps an oplog compaction within a maximum number of bytes copied per second so that it does not
+ * starve foreground disk writes. Not thread safe; used only by the compactor thread.
+ */
+class CompactionThrottle {
+  /**
+   * The most time a compaction that fell behind its budget can catch up with by running faster than
+   * the budget.
+   */
+  private static final long MAX_CREDIT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  /**
+   * The longest a throttled compactor sleeps before checking whether it should stop.
+   */
+  static final long MAX_SLEEP_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final long maxBytesPerSecond;
+  private final LongSupplier nanoClock;
+
+  private long startNanos;
+  private long bytes;
+
+  CompactionThrottle(long maxBytesPerSecond) {
+    this(maxBytesPerSecond, System::nanoTime);
+  }
+
+  @VisibleForTesting
+  CompactionThrottle(long maxBytesPerSecond, LongSupplier nanoClock) {
+    this.maxBytesPerSecond = maxBytesPerSecond;
+    this.nanoClock = nanoClock;
+  }
+
+  boolean isEnabled() {
+    return maxBytesPerSecond > 0;
+  }
+
+  /**
+   * Starts a new budget period. Called when a compaction starts.
+   */
+  void start() {
+    startNanos = nanoClock.getAsLong();
+    bytes = 0;
+  }
+
+  /**
+   * Records that the given number of bytes was copied.
+   *
+   * @return the number of nanoseconds the caller should wait to stay within the budget
+   */
+  long record(long byteCount) {
+    if (!isEnabled()) {
+      return 0;
+    }
+    bytes += byteCount;
+    long budgetNanos = (long) (bytes * (1e9d / maxBytesPerSecond));
+    long elapsedNanos = nanoClock.getAsLong() - startNanos;
+    if (elapsedNanos - budgetNanos > MAX_CREDIT_NANOS) {
+      // don't let a slow stretch turn into an unthrottled burst
+      startNanos += elapsedNanos - budgetNanos - MAX_CREDIT_NANOS;
+      return 0;
+    }
+    return Math.max(0, budgetNanos - elapsedNanos);
+  }
+}
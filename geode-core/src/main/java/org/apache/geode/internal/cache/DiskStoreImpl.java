@@ -67,7 +67,9 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import it.unimi.dsi.fastutil.ints.IntIterator;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongIterator;
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.Logger;
@@ -156,6 +158,14 @@ public class DiskStoreImpl implements DiskStore {
   public static final String COMPLETE_COMPACTION_BEFORE_TERMINATION_PROPERTY_NAME =
       GeodeGlossary.GEMFIRE_PREFIX + "disk.completeCompactionBeforeTermination";
 
+  /**
+   * This system property limits the number of value bytes per second that oplog compaction copies
+   * forward, so that compaction does not starve foreground writes. It applies to the compaction of
+   * both persistent and overflow oplogs. Zero, the default, means no limit.
+   */
+  public static final String COMPACTION_MAX_BYTES_PER_SECOND_PROPERTY_NAME =
+      GeodeGlossary.GEMFIRE_PREFIX + "disk.compactionMaxBytesPerSecond";
+
   static final int MINIMUM_DIR_SIZE = 1024;
 
   private DiskDirSizesUnit diskDirSizesUnit;
@@ -2822,9 +2832,19 @@ public class DiskStoreImpl implements DiskStore {
 
     private final boolean compactionCompletionRequired;
 
+    private final CompactionThrottle throttle;
+
+    /**
+     * Time the compaction has to wait before copying more values. Only used by the compactor
+     * thread.
+     */
+    private long throttleNanos;
+
     OplogCompactor() {
       compactionCompletionRequired =
           Boolean.getBoolean(COMPLETE_COMPACTION_BEFORE_TERMINATION_PROPERTY_NAME);
+      throttle =
+          new CompactionThrottle(Long.getLong(COMPACTION_MAX_BYTES_PER_SECOND_PROPERTY_NAME, 0));
     }
 
     /** Creates a new thread and starts the thread* */
@@ -2893,6 +2913,8 @@ public class DiskStoreImpl implements DiskStore {
       int totalCount = 0;
       long compactionStart = getStats().startCompaction();
       long start = System.nanoTime();
+      throttle.start();
+      throttleNanos = 0;
       try {
         for (int i = 0; i < oplogs.length && keepCompactorRunning(); i++) {
           totalCount += oplogs[i].compact(this);
@@ -3025,6 +3047,50 @@ public class DiskStoreImpl implements DiskStore {
     boolean keepCompactorRunning() {
       return compactorEnabled || compactionCompletionRequired;
     }
+
+    /**
+     * Called by an oplog being compacted after it copied forward a value of the given size.
+     *
+     * @return true if the compaction is ahead of
+     *         {@link #COMPACTION_MAX_BYTES_PER_SECOND_PROPERTY_NAME} and the oplog should release its
+     *         compactor locks and call {@link #waitIfThrottled()} before copying more values
+     */
+    boolean valueCopied(int valueLength) {
+      getStats().incCompactBytes(valueLength);
+      throttleNanos = throttle.record(valueLength);
+      return throttleNanos > 0;
+    }
+
+    /**
+     * Waits until the compaction is back within its rate limit. Must be called without holding
+     * the compactor read lock or an oplog's compactor lock so that the wait does not hold up a
+     * clear or any other operation that takes the compactor write lock. The wait ends early if the
+     * compactor is stopped or the disk store is closing.
+     *
+     * @return true if the compaction was throttled and the oplog should resume compacting
+     */
+    boolean waitIfThrottled() {
+      long waitNanos = throttleNanos;
+      if (waitNanos <= 0) {
+        return false;
+      }
+      throttleNanos = 0;
+      long waitStart = System.nanoTime();
+      long waitEnd = waitStart + waitNanos;
+      try {
+        long remainingNanos = waitNanos;
+        while (remainingNanos > 0 && keepCompactorRunning()
+            && !DiskStoreImpl.this.isClosing() && !isClosing()) {
+          TimeUnit.NANOSECONDS.sleep(Math.min(remainingNanos, CompactionThrottle.MAX_SLEEP_NANOS));
+          remainingNanos = waitEnd - System.nanoTime();
+        }
+      } catch (InterruptedException ignore) {
+        Thread.currentThread().interrupt();
+      } finally {
+        getStats().incCompactThrottleTime(System.nanoTime() - waitStart);
+      }
+      return true;
+    }
   }
 
   /**
@@ -3574,6 +3640,24 @@ public class DiskStoreImpl implements DiskStore {
       }
     }
 
+    /**
+     * Adds all of the ids of the given set to this set.
+     */
+    public void addAll(OplogEntryIdSet other) {
+      for (IntOpenHashSet ints : other.allInts) {
+        IntIterator it = ints.iterator();
+        while (it.hasNext()) {
+          add(Integer.toUnsignedLong(it.nextInt()));
+        }
+      }
+      for (LongOpenHashSet longs : other.allLongs) {
+        LongIterator it = longs.iterator();
+        while (it.hasNext()) {
+          add(it.nextLong());
+        }
+      }
+    }
+
     public boolean contains(long id) {
       if (id >= 0 && id <= 0x00000000FFFFFFFFL) {
         return allInts.stream().anyMatch(ints -> ints.contains((int) id));
@@ -74,6 +74,8 @@ public class DiskStoreStats {
   private static final int compactUpdateTimeId;
   private static final int compactDeletesId;
   private static final int compactDeleteTimeId;
+  private static final int compactBytesId;
+  private static final int compactThrottleTimeId;
 
   private static final int openOplogsId;
   private static final int inactiveOplogsId;
@@ -172,6 +174,11 @@ public class DiskStoreStats {
             f.createLongCounter("compactDeleteTime",
                 "Total amount of time, in nanoseconds, spent doing deletes during a compact",
                 "nanoseconds"),
+            f.createLongCounter("compactBytes",
+                "Total number of value bytes copied forward by oplog compacts", "bytes"),
+            f.createLongCounter("compactThrottleTime",
+                "Total amount of time, in nanoseconds, oplog compacts waited to stay within the configured compaction rate",
+                "nanoseconds"),
             f.createIntGauge("compactsInProgress",
                 "current number of oplog compacts that are in progress", "compacts"),
             f.createIntGauge("writesInProgress",
@@ -233,6 +240,8 @@ public class DiskStoreStats {
     compactInsertTimeId = type.nameToId("compactInsertTime");
     compactUpdatesId = type.nameToId("compactUpdates");
     compactUpdateTimeId = type.nameToId("compactUpdateTime");
+    compactBytesId = type.nameToId("compactBytes");
+    compactThrottleTimeId = type.nameToId("compactThrottleTime");
     oplogReadsId = type.nameToId("oplogReads");
     oplogSeeksId = type.nameToId("oplogSeeks");
 
@@ -542,6 +551,28 @@ public class DiskStoreStats {
     stats.incLong(compactUpdateTimeId, getStatTime() - start);
   }
 
+  public void incCompactBytes(long bytes) {
+    stats.incLong(compactBytesId, bytes);
+  }
+
+  public void incCompactThrottleTime(long nanos) {
+    stats.incLong(compactThrottleTimeId, nanos);
+  }
+
+  /**
+   * Returns the total number of value bytes copied forward by oplog compacts
+   */
+  public long getCompactBytes() {
+    return stats.getLong(compactBytesId);
+  }
+
+  /**
+   * Returns the total number of nanoseconds oplog compacts waited because of the compaction rate
+   */
+  public long getCompactThrottleTime() {
+    return stats.getLong(compactThrottleTimeId);
+  }
+
   public long getStatTime() {
     return getTime();
   }
@@ -14,6 +14,7 @@
  */
 package org.apache.geode.internal.cache;
 
+import org.apache.geode.annotations.internal.MutableForTesting;
 import org.apache.geode.util.internal.GeodeGlossary;
 
 /**
@@ -24,6 +25,14 @@ public class InlineKeyHelper {
   public static final boolean INLINE_REGION_KEYS =
       !Boolean.getBoolean(GeodeGlossary.GEMFIRE_PREFIX + "DISABLE_INLINE_REGION_KEYS");
 
+  /**
+   * If true, String keys of off-heap regions that are too long to be stored inline are copied into
+   * off-heap memory instead of being kept on the heap.
+   */
+  @MutableForTesting
+  public static boolean OFF_HEAP_STRING_KEYS =
+      Boolean.getBoolean(GeodeGlossary.GEMFIRE_PREFIX + "OFF_HEAP_STRING_KEYS");
+
   /**
    * The maximum number of longs any of region entry subclasses use to store the string key inline.
    */
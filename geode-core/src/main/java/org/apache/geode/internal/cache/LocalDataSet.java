@@ -71,6 +71,8 @@ public class LocalDataSet implements Region, QueryExecutor {
   private final PartitionedRegion proxy;
   private final Set<Integer> buckets;
   private InternalRegionFunctionContext rfContext;
+  private int bucketSplitIndex = 0;
+  private int bucketSplitCount = 1;
 
   public LocalDataSet(PartitionedRegion pr, int[] buckets) {
     proxy = pr;
@@ -119,6 +121,34 @@ public class LocalDataSet implements Region, QueryExecutor {
     return new LocalEntriesSet(IteratorType.KEYS);
   }
 
+  /**
+   * Restricts the local entry iterators of this data set to the keys that fall into split
+   * {@code splitIndex} of {@code splitCount}. Used to scan a single bucket with several query
+   * tasks, each covering a disjoint part of its keys.
+   */
+  public void setBucketSplit(int splitIndex, int splitCount) {
+    bucketSplitIndex = splitIndex;
+    bucketSplitCount = splitCount;
+  }
+
+  boolean isInBucketSplit(Object key) {
+    return bucketSplitCount <= 1 || getBucketSplit(key, bucketSplitCount) == bucketSplitIndex;
+  }
+
+  /**
+   * Returns the split of {@code splitCount} the key belongs to. The key hash is mixed first since
+   * all keys of a bucket share the same hash modulo the number of buckets.
+   */
+  static int getBucketSplit(Object key, int splitCount) {
+    int h = key.hashCode();
+    h ^= h >>> 16;
+    h *= 0x85ebca6b;
+    h ^= h >>> 13;
+    h *= 0xc2b2ae35;
+    h ^= h >>> 16;
+    return (h & Integer.MAX_VALUE) % splitCount;
+  }
+
   /**
    * This instance method was added so that unit tests could mock it
    */
@@ -775,6 +805,9 @@ public class LocalDataSet implements Region, QueryExecutor {
             if (hasNext) {
               Map.Entry e = (Map.Entry) curBucketIter.next();
               try {
+                if (!isInBucketSplit(e.getKey())) {
+                  continue;
+                }
                 if (iterType == IteratorType.VALUES) {
                   if (isKeepSerialized()) {
                     next = ((NonTXEntry) e).getRawValue();
@@ -818,6 +851,12 @@ public class LocalDataSet implements Region, QueryExecutor {
     @Override
     public int size() {
       int size = 0;
+      if (bucketSplitCount > 1) {
+        for (Iterator it = iterator(); it.hasNext(); it.next()) {
+          size++;
+        }
+        return size;
+      }
       for (Integer bId : buckets) {
         BucketRegion br = proxy.getDataStore().getLocalBucketById(bId);
         size += br.size();
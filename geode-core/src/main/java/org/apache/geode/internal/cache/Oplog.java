@@ -29,6 +29,9 @@ import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -47,6 +50,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
@@ -59,6 +63,7 @@ import org.apache.geode.CancelException;
 import org.apache.geode.DataSerializer;
 import org.apache.geode.SerializationException;
 import org.apache.geode.annotations.VisibleForTesting;
+import org.apache.geode.annotations.internal.MutableForTesting;
 import org.apache.geode.cache.CacheClosedException;
 import org.apache.geode.cache.CacheWriterException;
 import org.apache.geode.cache.DiskAccessException;
@@ -110,6 +115,7 @@ import org.apache.geode.internal.serialization.VersioningIO;
 import org.apache.geode.internal.shared.NativeCalls;
 import org.apache.geode.logging.internal.log4j.api.LogService;
 import org.apache.geode.pdx.internal.PdxWriterImpl;
+import org.apache.geode.unsafe.internal.sun.nio.ch.DirectBuffer;
 import org.apache.geode.util.internal.GeodeGlossary;
 
 /**
@@ -182,6 +188,66 @@ public class Oplog implements CompactableOplog, Flushable {
   private static final boolean SYNC_WRITES =
       Boolean.getBoolean(GeodeGlossary.GEMFIRE_PREFIX + "syncWrites");
 
+  /**
+   * This system property enables group commit of synchronous writes. A synchronous create, modify,
+   * remove or conflict version tag write is only appended to the oplog buffers while holding the
+   * oplog lock. After releasing it the writer waits for a single thread to flush, and force if
+   * syncWrites is set, everything appended by concurrent writers so far.
+   */
+  @MutableForTesting
+  static boolean GROUP_COMMIT =
+      Boolean.getBoolean(GeodeGlossary.GEMFIRE_PREFIX + "DiskStore.GROUP_COMMIT");
+
+  /**
+   * The number of synchronous operations appended to this oplog in {@link #GROUP_COMMIT} mode.
+   * Guarded by lock.
+   */
+  private long groupCommitAppended;
+
+  /**
+   * Guards groupCommitFlushed and groupCommitFlushing. Must never be acquired while holding lock.
+   */
+  private final Object groupCommitMonitor = new Object();
+
+  /**
+   * The highest commit sequence number known to be flushed.
+   */
+  private long groupCommitFlushed;
+
+  /**
+   * True while a thread is flushing for {@link #GROUP_COMMIT}.
+   */
+  private boolean groupCommitFlushing;
+
+  /**
+   * This system property instructs that values of oplogs that are no longer appended to be read
+   * from a read only memory mapping of the crf instead of with a seek and read on the crf file.
+   * Mapped reads do not hold the oplog lock and do not make a system call per value. Only crfs
+   * smaller than 2GB are mapped; larger ones are always read from the file.
+   */
+  @MutableForTesting
+  static boolean MAPPED_READS =
+      Boolean.getBoolean(GeodeGlossary.GEMFIRE_PREFIX + "DiskStore.MAPPED_OPLOG_READS");
+
+  /**
+   * Read only mapping of the crf, created on the first read after this oplog is done appending.
+   * Null if {@link #MAPPED_READS} is false or the crf has not been mapped yet.
+   */
+  private volatile ByteBuffer mappedCrf;
+
+  /**
+   * Set once mapping the crf has failed or is not possible, so later reads go straight to the
+   * file.
+   */
+  private volatile boolean mappedCrfUnavailable;
+
+  /**
+   * Readers of {@link #mappedCrf} hold the read lock while copying a value out of it so that
+   * {@link #unmapCrf()} can wait for them before unmapping. Touching an unmapped buffer crashes the
+   * JVM.
+   */
+  private final ReentrantReadWriteLock mappedCrfLock = new ReentrantReadWriteLock();
+
   /**
    * The HighWaterMark of recentValues.
    */
@@ -3212,6 +3278,7 @@ public class Oplog implements CompactableOplog, Flushable {
         crf.RAFClosed = true;
         stats.decOpenOplogs();
       }
+      unmapCrf();
       closed = true;
     }
     // No need to get the backup lock prior to synchronizing (correct lock order) since the
@@ -3455,6 +3522,7 @@ public class Oplog implements CompactableOplog, Flushable {
       boolean async) throws IOException, InterruptedException {
     DiskId id = entry.getDiskId();
     boolean useNextOplog = false;
+    long groupCommitSeq = 0;
     long startPosForSynchOp = -1;
     if (DiskStoreImpl.KRF_DEBUG) {
       // wait for cache close to create krf
@@ -3524,7 +3592,8 @@ public class Oplog implements CompactableOplog, Flushable {
           id.setOplogId(getOplogId());
           // do the io while holding lock so that switch can set doneAppending
           // Write the data to the opLog for the synch mode
-          startPosForSynchOp = writeOpLogBytes(crf, async, true);
+          startPosForSynchOp = writeOpLogBytes(crf, async, !GROUP_COMMIT);
+          groupCommitSeq = appendedForGroupCommit(async);
           crf.currSize = temp;
           if (EntryBits.isNeedsValue(userBits)) {
             id.setValueLength(value.getLength());
@@ -3577,6 +3646,7 @@ public class Oplog implements CompactableOplog, Flushable {
     } finally {
       getParent().getBackupLock().unlock();
     }
+    awaitGroupCommit(groupCommitSeq);
     if (useNextOplog) {
       if (LocalRegion.ISSUE_CALLBACKS_TO_CACHE_OBSERVER) {
         CacheObserverHolder.getInstance().afterSwitchingOplog();
@@ -4419,6 +4489,7 @@ public class Oplog implements CompactableOplog, Flushable {
       boolean async, boolean calledByCompactor) throws IOException, InterruptedException {
     DiskId id = entry.getDiskId();
     boolean useNextOplog = false;
+    long groupCommitSeq = 0;
     long startPosForSynchOp = -1L;
     Oplog emptyOplog = null;
     if (DiskStoreImpl.KRF_DEBUG) {
@@ -4452,7 +4523,8 @@ public class Oplog implements CompactableOplog, Flushable {
             long oldOplogId;
             // do the io while holding lock so that switch can set doneAppending
             // Write the data to the opLog for the synch mode
-            startPosForSynchOp = writeOpLogBytes(crf, async, true);
+            startPosForSynchOp = writeOpLogBytes(crf, async, !GROUP_COMMIT);
+            groupCommitSeq = appendedForGroupCommit(async);
             crf.currSize = temp;
             startPosForSynchOp += getOpStateValueOffset();
             if (logger.isTraceEnabled(LogMarker.PERSIST_WRITES_VERBOSE)) {
@@ -4523,6 +4595,7 @@ public class Oplog implements CompactableOplog, Flushable {
     } finally {
       getParent().getBackupLock().unlock();
     }
+    awaitGroupCommit(groupCommitSeq);
     if (useNextOplog) {
       if (LocalRegion.ISSUE_CALLBACKS_TO_CACHE_OBSERVER) {
         CacheObserverHolder.getInstance().afterSwitchingOplog();
@@ -4554,6 +4627,7 @@ public class Oplog implements CompactableOplog, Flushable {
   private void basicSaveConflictVersionTag(DiskRegionView dr, VersionTag tag, boolean async)
       throws IOException, InterruptedException {
     boolean useNextOplog = false;
+    long groupCommitSeq = 0;
     getParent().getBackupLock().lock();
     try {
       synchronized (lock) {
@@ -4576,7 +4650,8 @@ public class Oplog implements CompactableOplog, Flushable {
               throw cce;
             }
             firstRecord = false;
-            writeOpLogBytes(crf, async, true);
+            writeOpLogBytes(crf, async, !GROUP_COMMIT);
+            groupCommitSeq = appendedForGroupCommit(async);
             crf.currSize = temp;
             if (logger.isTraceEnabled(LogMarker.PERSIST_WRITES_VERBOSE)) {
               logger.trace(LogMarker.PERSIST_WRITES_VERBOSE,
@@ -4598,6 +4673,7 @@ public class Oplog implements CompactableOplog, Flushable {
     } finally {
       getParent().getBackupLock().unlock();
     }
+    awaitGroupCommit(groupCommitSeq);
     if (useNextOplog) {
       if (LocalRegion.ISSUE_CALLBACKS_TO_CACHE_OBSERVER) {
         CacheObserverHolder.getInstance().afterSwitchingOplog();
@@ -4871,6 +4947,7 @@ public class Oplog implements CompactableOplog, Flushable {
     DiskId id = entry.getDiskId();
 
     boolean useNextOplog = false;
+    long groupCommitSeq = 0;
     long startPosForSynchOp = -1;
     Oplog emptyOplog = null;
     if (DiskStoreImpl.KRF_DEBUG) {
@@ -4921,7 +4998,8 @@ public class Oplog implements CompactableOplog, Flushable {
             // before we flush the crf.
             // However we can't have removes by async if we are doing a sync write
             // because we might be killed right after we do this write.
-            startPosForSynchOp = writeOpLogBytes(drf, async, true);
+            startPosForSynchOp = writeOpLogBytes(drf, async, !GROUP_COMMIT);
+            groupCommitSeq = appendedForGroupCommit(async);
             setHasDeletes(true);
             if (logger.isDebugEnabled(LogMarker.PERSIST_WRITES_VERBOSE)) {
               logger.debug("basicRemove: id=<{}> key=<{}> drId={} oplog#{}", abs(id.getKeyId()),
@@ -4953,6 +5031,7 @@ public class Oplog implements CompactableOplog, Flushable {
     } finally {
       getParent().getBackupLock().unlock();
     }
+    awaitGroupCommit(groupCommitSeq);
     if (useNextOplog) {
       if (LocalRegion.ISSUE_CALLBACKS_TO_CACHE_OBSERVER) {
         CacheObserverHolder.getInstance().afterSwitchingOplog();
@@ -5001,6 +5080,101 @@ public class Oplog implements CompactableOplog, Flushable {
     flushAll(false);
   }
 
+  /**
+   * Called while holding the oplog lock after a synchronous operation was appended without being
+   * flushed because of {@link #GROUP_COMMIT}.
+   *
+   * @return the commit sequence number to pass to {@link #awaitGroupCommit(long)}, or 0 if there is
+   *         nothing to wait for
+   */
+  private long appendedForGroupCommit(boolean async) {
+    if (async || !GROUP_COMMIT) {
+      return 0;
+    }
+    return ++groupCommitAppended;
+  }
+
+  /**
+   * Waits, without holding the oplog lock, until the synchronous operation with the given commit
+   * sequence number has been flushed (and forced if syncWrites is set). The first waiter to find no
+   * flush in progress flushes everything appended so far, so the operations of all threads that
+   * appended while the previous flush ran are committed with a single write and force.
+   */
+  private void awaitGroupCommit(long groupCommitSeq) {
+    if (groupCommitSeq == 0) {
+      return;
+    }
+    boolean interrupted = false;
+    try {
+      synchronized (groupCommitMonitor) {
+        while (groupCommitFlushed < groupCommitSeq && groupCommitFlushing) {
+          try {
+            groupCommitMonitor.wait();
+          } catch (InterruptedException ignore) {
+            // the operation is already in the oplog so it has to be committed
+            interrupted = true;
+          }
+        }
+        if (groupCommitFlushed >= groupCommitSeq) {
+          return;
+        }
+        groupCommitFlushing = true;
+      }
+      long flushedSeq = 0;
+      try {
+        flushedSeq = flushForGroupCommit();
+      } finally {
+        synchronized (groupCommitMonitor) {
+          groupCommitFlushed = Math.max(groupCommitFlushed, flushedSeq);
+          groupCommitFlushing = false;
+          groupCommitMonitor.notifyAll();
+        }
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private long flushForGroupCommit() {
+    final long flushedSeq;
+    // No need to get the backup lock prior to synchronizing (correct lock order) since the
+    // synchronized block does not attempt to get the backup lock (incorrect lock order)
+    synchronized (lock) {
+      flushedSeq = groupCommitAppended;
+      flushAll(false, false);
+    }
+    if (SYNC_WRITES) {
+      // force outside of the lock so that other threads can keep appending
+      try {
+        if (!drf.RAFClosed) {
+          drf.channel.force(true);
+        }
+        if (!crf.RAFClosed) {
+          crf.channel.force(true);
+        }
+      } catch (ClosedChannelException ignore) {
+        // the oplog was switched or closed which flushes and forces it
+      } catch (IOException ex) {
+        getParent().getCancelCriterion().checkCancelInProgress(ex);
+        throw new DiskAccessException(
+            String.format("Failed writing key to %s", diskFile.getPath()),
+            ex, getParent());
+      }
+    }
+    return flushedSeq;
+  }
+
+  @VisibleForTesting
+  boolean hasPendingGroupCommits() {
+    synchronized (groupCommitMonitor) {
+      synchronized (lock) {
+        return groupCommitFlushed < groupCommitAppended;
+      }
+    }
+  }
+
   private static final int MAX_CHANNEL_RETRIES = 5;
 
   private void flush(OplogFile olf, boolean doSync) throws IOException {
@@ -5307,6 +5481,97 @@ public class Oplog implements CompactableOplog, Flushable {
     }
   }
 
+  /**
+   * Reads the value from the memory mapped crf if {@link #MAPPED_READS} is enabled and this oplog
+   * is done appending.
+   *
+   * @return the value read or null if the value has to be read from the crf file instead
+   */
+  private BytesAndBits attemptMappedGet(long offsetInOplog, int valueLength, byte userBits) {
+    if (getMappedCrf() == null) {
+      return null;
+    }
+    byte[] valueBytes = new byte[valueLength];
+    mappedCrfLock.readLock().lock();
+    try {
+      // reread under the lock in case the crf was unmapped after getMappedCrf returned
+      final ByteBuffer mapped = mappedCrf;
+      if (mapped == null || offsetInOplog < 0
+          || (offsetInOplog + valueLength) > mapped.capacity()) {
+        // let attemptGet do the read and report any bad offsets
+        return null;
+      }
+      ByteBuffer source = mapped.duplicate();
+      source.position((int) offsetInOplog);
+      source.get(valueBytes);
+    } finally {
+      mappedCrfLock.readLock().unlock();
+    }
+    stats.incOplogReads();
+    BytesAndBits bb = new BytesAndBits(valueBytes, userBits);
+    // also set the product version for an older product
+    final KnownVersion version = getProductVersionIfOld();
+    if (version != null) {
+      bb.setVersion(version);
+    }
+    return bb;
+  }
+
+  @VisibleForTesting
+  boolean isCrfMapped() {
+    return mappedCrf != null;
+  }
+
+  /**
+   * Unmaps the crf once no reader is copying from it, instead of leaving the mapping, and on some
+   * platforms the deleted file, around until the buffer is garbage collected. Must be called while
+   * synchronized on the oplog lock so the crf is not mapped again concurrently.
+   */
+  private void unmapCrf() {
+    final ByteBuffer mapped;
+    mappedCrfLock.writeLock().lock();
+    try {
+      mapped = mappedCrf;
+      mappedCrf = null;
+    } finally {
+      mappedCrfLock.writeLock().unlock();
+    }
+    if (mapped != null) {
+      DirectBuffer.clean(mapped);
+    }
+  }
+
+  private ByteBuffer getMappedCrf() {
+    ByteBuffer result = mappedCrf;
+    if (result != null || !MAPPED_READS || mappedCrfUnavailable) {
+      return result;
+    }
+    // No need to get the backup lock prior to synchronizing (correct lock order) since the
+    // synchronized block does not attempt to get the backup lock (incorrect lock order)
+    synchronized (lock/* crf */) {
+      result = mappedCrf;
+      if (result != null || !doneAppending || closed || mappedCrfUnavailable) {
+        return result;
+      }
+      if (crf.f == null || crf.bytesFlushed > Integer.MAX_VALUE) {
+        mappedCrfUnavailable = true;
+        return null;
+      }
+      // the mapping stays valid after the channel is closed
+      try (FileChannel channel = FileChannel.open(crf.f.toPath(), StandardOpenOption.READ)) {
+        result = channel.map(MapMode.READ_ONLY, 0, crf.bytesFlushed);
+      } catch (IOException | UnsupportedOperationException ex) {
+        if (logger.isDebugEnabled()) {
+          logger.debug("Could not memory map {}; reading it from the file instead", crf.f, ex);
+        }
+        mappedCrfUnavailable = true;
+        return null;
+      }
+      mappedCrf = result;
+      return result;
+    }
+  }
+
   /**
    * Extracts the Value byte array & UserBit from the OpLog
    *
@@ -5338,7 +5603,10 @@ public class Oplog implements CompactableOplog, Flushable {
           dr.getCancelCriterion().checkCancelInProgress(null);
           boolean interrupted = Thread.interrupted();
           try {
-            bb = attemptGet(dr, offsetInOplog, valueLength, userBits);
+            bb = attemptMappedGet(offsetInOplog, valueLength, userBits);
+            if (bb == null) {
+              bb = attemptGet(dr, offsetInOplog, valueLength, userBits);
+            }
             break;
           } catch (InterruptedIOException ignore) { // bug 39756
             // ignore, we'll clear and retry.
@@ -5565,6 +5833,10 @@ public class Oplog implements CompactableOplog, Flushable {
         dirHolder.decrementTotalOplogSize(olf.currSize);
         olf.currSize = 0;
       }
+      if (olf == crf) {
+        mappedCrfUnavailable = true;
+        unmapCrf();
+      }
       if (olf.f == null) {
         return;
       }
@@ -5837,6 +6109,20 @@ public class Oplog implements CompactableOplog, Flushable {
    */
   @Override
   public int compact(OplogCompactor compactor) {
+    int totalCount = 0;
+    do {
+      totalCount += compactUntilThrottled(compactor);
+      // wait for the compaction rate limit only once the compactor locks have been released
+    } while (compactor.waitIfThrottled());
+    return totalCount;
+  }
+
+  /**
+   * Copies live values forward until all of them have been copied or the compaction has to wait
+   * for its rate limit. Entries are always taken from the end of the live lists, so calling this
+   * again after the wait picks up where it stopped.
+   */
+  private int compactUntilThrottled(OplogCompactor compactor) {
     if (!needsCompaction()) {
       return 0; // @todo check new logic that deals with not compacting oplogs
                 // which have unrecovered regions
@@ -5867,13 +6153,14 @@ public class Oplog implements CompactableOplog, Flushable {
                                  * getParent().getOwner().isDestroyed ||
                                  */!compactor.keepCompactorRunning();
         int totalCount = 0;
+        boolean throttled = false;
         for (DiskRegionInfo dri : regionMap.get().values()) {
           final DiskRegionView dr = dri.getDiskRegion();
           if (dr == null) {
             continue;
           }
           boolean didCompact;
-          while ((de = dri.getNextLiveEntry()) != null) {
+          while (!throttled && (de = dri.getNextLiveEntry()) != null) {
             if (/*
                  * getParent().getOwner().isDestroyed ||
                  */!compactor.keepCompactorRunning()) {
@@ -5915,6 +6202,7 @@ public class Oplog implements CompactableOplog, Flushable {
               } // did
             } // de
             if (didCompact) {
+              throttled = compactor.valueCopied(wrapper.getValidLength());
               totalCount++;
               getStats().endCompactionUpdate(opStart);
               opStart = getStats().getStatTime();
@@ -5930,9 +6218,14 @@ public class Oplog implements CompactableOplog, Flushable {
               }
             }
           }
+          if (throttled) {
+            break;
+          }
         }
 
-        cleanupAfterCompaction(compactFailed);
+        if (!throttled) {
+          cleanupAfterCompaction(compactFailed);
+        }
         return totalCount;
       } finally {
         unlockCompactor();
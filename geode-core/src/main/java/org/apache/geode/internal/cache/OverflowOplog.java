@@ -1246,6 +1246,20 @@ class OverflowOplog implements CompactableOplog, Flushable {
 
   @Override
   public int compact(OplogCompactor compactor) {
+    int totalCount = 0;
+    do {
+      totalCount += compactUntilThrottled(compactor);
+      // wait for the compaction rate limit only once the compactor locks have been released
+    } while (compactor.waitIfThrottled());
+    return totalCount;
+  }
+
+  /**
+   * Copies live values forward until all of them have been copied or the compaction has to wait
+   * for its rate limit. Entries are always taken from the end of the live list, so calling this
+   * again after the wait picks up where it stopped.
+   */
+  private int compactUntilThrottled(OplogCompactor compactor) {
     if (!needsCompaction()) {
       return 0;
     }
@@ -1269,7 +1283,8 @@ class OverflowOplog implements CompactableOplog, Flushable {
         boolean compactFailed = !compactor.keepCompactorRunning();
         int totalCount = 0;
         boolean didCompact = false;
-        while ((de = getNextLiveEntry()) != null) {
+        boolean throttled = false;
+        while (!throttled && (de = getNextLiveEntry()) != null) {
           if (!compactor.keepCompactorRunning()) {
             compactFailed = true;
             break;
@@ -1327,6 +1342,7 @@ class OverflowOplog implements CompactableOplog, Flushable {
             } // did
           } // de
           if (didCompact) {
+            throttled = compactor.valueCopied(wrapper.getValidLength());
             totalCount++;
             getStats().endCompactionUpdate(opStart);
             opStart = getStats().getStatTime();
@@ -1341,7 +1357,7 @@ class OverflowOplog implements CompactableOplog, Flushable {
           }
         }
 
-        if (!compactFailed) {
+        if (!compactFailed && !throttled) {
           // Need to still remove the oplog even if it had nothing to compact.
           handleNoLiveValues();
         }
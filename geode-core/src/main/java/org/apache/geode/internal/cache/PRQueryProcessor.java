@@ -41,12 +41,18 @@ import org.apache.geode.cache.RegionDestroyedException;
 import org.apache.geode.cache.query.QueryException;
 import org.apache.geode.cache.query.QueryInvocationTargetException;
 import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.internal.BucketSplit;
+import org.apache.geode.cache.query.internal.CompiledGroupBySelect;
+import org.apache.geode.cache.query.internal.CompiledIteratorDef;
+import org.apache.geode.cache.query.internal.CompiledRegion;
 import org.apache.geode.cache.query.internal.CompiledSelect;
+import org.apache.geode.cache.query.internal.CompiledValue;
 import org.apache.geode.cache.query.internal.DefaultQuery;
 import org.apache.geode.cache.query.internal.ExecutionContext;
 import org.apache.geode.cache.query.internal.NWayMergeResults;
 import org.apache.geode.cache.query.internal.QueryExecutionContext;
 import org.apache.geode.cache.query.internal.QueryMonitor;
+import org.apache.geode.cache.query.internal.ResultsCollectionWrapper;
 import org.apache.geode.cache.query.types.ObjectType;
 import org.apache.geode.internal.Assert;
 import org.apache.geode.internal.cache.execute.BucketMovedException;
@@ -78,6 +84,18 @@ public class PRQueryProcessor {
   @MutableForTesting
   public static int TEST_NUM_THREADS = 0;
 
+  /**
+   * Buckets holding more than this many entries are scanned by several query tasks, each covering
+   * a disjoint split of roughly this many entries, so that a few large buckets do not serialize
+   * the query. Zero disables the splitting.
+   */
+  public static final int BUCKET_SPLIT_SIZE =
+      getInteger(GeodeGlossary.GEMFIRE_PREFIX + "PRQueryProcessor.bucketSplitSize", 10000);
+
+  /* For Test purpose */
+  @MutableForTesting
+  public static int TEST_BUCKET_SPLIT_SIZE = 0;
+
   private PartitionedRegionDataStore _prds;
   private PartitionedRegion pr;
   private final DefaultQuery query;
@@ -173,7 +191,12 @@ public class PRQueryProcessor {
 
         CompiledSelect cs = query.getSimpleSelect();
 
-        if (cs != null && (cs.isOrderBy() || cs.isGroupBy())) {
+        if (cs != null && cs.getType() == CompiledValue.GROUP_BY_SELECT) {
+          Collection combinedResults =
+              combineGroupByResults(resultCollector, (CompiledGroupBySelect) cs);
+          resultCollector.clear();
+          resultCollector.add(combinedResults);
+        } else if (cs != null && (cs.isOrderBy() || cs.isGroupBy())) {
           ExecutionContext context = new QueryExecutionContext(parameters, pr.getCache());
           int limit = query.getLimit(parameters);
           Collection mergedResults = coalesceOrderedResults(resultCollector, context, cs, limit);
@@ -205,7 +228,9 @@ public class PRQueryProcessor {
         context.setBucketList(singleBucket);
         executeQueryOnBuckets(resultCollector, context);
       }
-      Collection mergedResults = coalesceOrderedResults(resultCollector, context, cs, limit);
+      Collection mergedResults = cs.getType() == CompiledValue.GROUP_BY_SELECT
+          ? combineGroupByResults(resultCollector, (CompiledGroupBySelect) cs)
+          : coalesceOrderedResults(resultCollector, context, cs, limit);
       resultCollector.clear();
       resultCollector.add(mergedResults);
 
@@ -230,6 +255,32 @@ public class PRQueryProcessor {
 
   }
 
+  /**
+   * Combines the partial aggregates computed for each bucket into a single partial aggregate per
+   * group for this data store, so that one row per group is sent to the query node instead of one
+   * per group and bucket. The rows stay ordered by the group by columns for the final merge.
+   */
+  private Collection combineGroupByResults(Collection<Collection> results,
+      CompiledGroupBySelect cgs) throws QueryException {
+    if (results.size() <= 1) {
+      return results.isEmpty() ? Collections.emptyList() : results.iterator().next();
+    }
+    ExecutionContext context = new QueryExecutionContext(parameters, pr.getCache());
+    context.setBucketList(_bucketsToQuery);
+    context.setIsDataStoreNode(true);
+    SelectResults baseResults;
+    if (cgs.isOrderBy()) {
+      baseResults = (SelectResults) coalesceOrderedResults(results, context, cgs, -1);
+    } else {
+      List<Object> rows = new ArrayList<>();
+      for (Collection result : results) {
+        rows.addAll(result);
+      }
+      baseResults = new ResultsCollectionWrapper(resultType, rows);
+    }
+    return cgs.applyAggregateAndGroupBy(baseResults, context);
+  }
+
   private void executeQueryOnBuckets(Collection<Collection> resultCollector,
       ExecutionContext context)
       throws ForceReattemptException, QueryException {
@@ -278,12 +329,54 @@ public class PRQueryProcessor {
 
   private List<QueryTask> buildCallableTaskList(Collection<Collection> resultsColl) {
     List<QueryTask> callableTasks = new ArrayList<>();
+    int splitSize = TEST_BUCKET_SPLIT_SIZE > 0 ? TEST_BUCKET_SPLIT_SIZE : BUCKET_SPLIT_SIZE;
+    CompiledValue splitExpression = splitSize > 0 ? getBucketSplitExpression() : null;
+    int maxSplitCount = TEST_NUM_THREADS > 1 ? TEST_NUM_THREADS : NUM_THREADS;
     for (Integer bId : _bucketsToQuery) {
-      callableTasks.add(new QueryTask(query, parameters, _prds, bId, resultsColl));
+      int splitCount = 1;
+      if (splitExpression != null) {
+        BucketRegion bucket = pr.getDataStore().getLocalBucketById(bId);
+        if (bucket != null) {
+          splitCount = Math.min(maxSplitCount, (bucket.size() + splitSize - 1) / splitSize);
+        }
+      }
+      if (splitCount > 1) {
+        BucketSplit bucketSplit = new BucketSplit(splitExpression, splitCount);
+        for (int splitIndex = 0; splitIndex < splitCount; splitIndex++) {
+          callableTasks.add(new QueryTask(query, parameters, _prds, bId, resultsColl, bucketSplit,
+              splitIndex));
+        }
+      } else {
+        callableTasks.add(new QueryTask(query, parameters, _prds, bId, resultsColl));
+      }
     }
     return callableTasks;
   }
 
+  /**
+   * Returns the iterator expression whose scan can be split across several tasks per bucket, or
+   * null if the query has to see every entry of a bucket in a single task. Splitting is limited to
+   * queries on this region alone that iterate over the region itself, where each task contributes
+   * the rows of its own entries just like the task of a separate bucket would. Whether an index is
+   * used is decided when the tasks plan the where clause, see {@link BucketSplit}.
+   */
+  private CompiledValue getBucketSplitExpression() {
+    CompiledSelect cs = query.getSimpleSelect();
+    if (cs == null || (cs.isCount() && cs.getWhereClause() == null)) {
+      return null;
+    }
+    if (query.getRegionsInQuery(parameters).size() != 1) {
+      return null;
+    }
+    CompiledValue collectionExpr =
+        ((CompiledIteratorDef) cs.getIterators().get(0)).getCollectionExpr();
+    if (collectionExpr instanceof CompiledRegion
+        && ((CompiledRegion) collectionExpr).getRegionPath().equals(pr.getFullPath())) {
+      return collectionExpr;
+    }
+    return null;
+  }
+
   public boolean isIndexUsed() {
     return isIndexUsedForLocalQuery;
   }
@@ -297,8 +390,8 @@ public class PRQueryProcessor {
   }
 
   /**
-   * A ThreadPool ( Fixed Size ) with an executor service to execute the query execution spread over
-   * buckets.
+   * A work stealing pool, bounded to the configured number of threads, to execute the query
+   * execution spread over buckets and bucket splits.
    */
   static class PRQueryExecutor {
 
@@ -335,7 +428,7 @@ public class PRQueryProcessor {
     static synchronized void initializeExecutorService() {
       if (execService == null || execService.isShutdown() || execService.isTerminated()) {
         int numThreads = (TEST_NUM_THREADS > 1 ? TEST_NUM_THREADS : NUM_THREADS);
-        execService = LoggingExecutors.newFixedThreadPool(numThreads, "PRQueryProcessor", true);
+        execService = LoggingExecutors.newWorkStealingPool("PRQueryProcessor", numThreads);
       }
     }
   }
@@ -398,14 +491,24 @@ public class PRQueryProcessor {
     private final PartitionedRegionDataStore _prDs;
     private final Integer _bucketId;
     private final Collection<Collection> resultColl;
+    private final BucketSplit bucketSplit;
+    private final int splitIndex;
 
     public QueryTask(DefaultQuery query, Object[] parameters, PartitionedRegionDataStore prDS,
         Integer bucketId, final Collection<Collection> rColl) {
+      this(query, parameters, prDS, bucketId, rColl, null, 0);
+    }
+
+    public QueryTask(DefaultQuery query, Object[] parameters, PartitionedRegionDataStore prDS,
+        Integer bucketId, final Collection<Collection> rColl, BucketSplit bucketSplit,
+        int splitIndex) {
       this.query = query;
       _prDs = prDS;
       _bucketId = bucketId;
       resultColl = rColl;
       this.parameters = parameters;
+      this.bucketSplit = bucketSplit;
+      this.splitIndex = splitIndex;
     }
 
     @Override
@@ -416,6 +519,9 @@ public class PRQueryProcessor {
         ExecutionContext context =
             new QueryExecutionContext(parameters, pr.getCache(), query);
         context.setBucketList(bucketList);
+        if (bucketSplit != null) {
+          context.setBucketSplit(bucketSplit, splitIndex);
+        }
         executeQueryOnBuckets(resultColl, context);
       } catch (ForceReattemptException | QueryException | CacheRuntimeException fre) {
         bukResult.setException(fre);
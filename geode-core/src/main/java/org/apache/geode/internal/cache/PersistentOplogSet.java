@@ -28,6 +28,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -47,11 +50,22 @@ import org.apache.geode.internal.cache.persistence.DiskStoreID;
 import org.apache.geode.internal.cache.persistence.OplogType;
 import org.apache.geode.internal.cache.versions.RegionVersionVector;
 import org.apache.geode.internal.sequencelog.EntryLogger;
+import org.apache.geode.logging.internal.executors.LoggingExecutors;
 import org.apache.geode.logging.internal.log4j.api.LogService;
+import org.apache.geode.util.internal.GeodeGlossary;
 
 public class PersistentOplogSet implements OplogSet {
   private static final Logger logger = LogService.getLogger();
 
+  /**
+   * The maximum number of threads used to read the drfs of a disk store concurrently during
+   * recovery. A value of 1 reads them one at a time on the recovering thread.
+   */
+  @VisibleForTesting
+  static final int MAX_DRF_RECOVERY_THREADS =
+      Integer.getInteger(GeodeGlossary.GEMFIRE_PREFIX + "disk.MAX_DRF_RECOVERY_THREADS",
+          Runtime.getRuntime().availableProcessors());
+
   /** variable to generate sequential unique oplogEntryId's* */
   private final AtomicLong oplogEntryId = new AtomicLong(DiskStoreImpl.INVALID_ID);
 
@@ -439,6 +453,76 @@ public class PersistentOplogSet implements OplogSet {
     }
   }
 
+  /**
+   * Reads the drfs of the given oplogs, adding the ids of all destroyed entries to deletedIds. If
+   * more than one thread may be used the drfs are read concurrently, each into its own set, and
+   * those sets are merged in oplog order once they have all been read.
+   */
+  private long recoverDrfs(TreeSet<Oplog> oplogSet, OplogEntryIdSet deletedIds) {
+    final boolean alreadyRecoveredOnce = getAlreadyRecoveredOnce().get();
+    int threads = Math.min(MAX_DRF_RECOVERY_THREADS, oplogSet.size());
+    long byteCount = 0;
+    if (threads <= 1) {
+      boolean latestOplog = true;
+      for (Oplog oplog : oplogSet) {
+        byteCount += oplog.recoverDrf(deletedIds, alreadyRecoveredOnce, latestOplog);
+        latestOplog = false;
+        if (!alreadyRecoveredOnce) {
+          updateOplogEntryId(oplog.getMaxRecoveredOplogEntryId());
+        }
+      }
+      return byteCount;
+    }
+
+    ExecutorService executor =
+        LoggingExecutors.newFixedThreadPool(threads, "Oplog Drf Recovery Thread", true);
+    try {
+      List<OplogEntryIdSet> oplogDeletedIds = new ArrayList<>(oplogSet.size());
+      List<Future<Long>> results = new ArrayList<>(oplogSet.size());
+      boolean latestOplog = true;
+      for (Oplog oplog : oplogSet) {
+        final OplogEntryIdSet ids = new OplogEntryIdSet();
+        final boolean latest = latestOplog;
+        oplogDeletedIds.add(ids);
+        results.add(executor.submit(() -> oplog.recoverDrf(ids, alreadyRecoveredOnce, latest)));
+        latestOplog = false;
+      }
+
+      Iterator<Oplog> oplogs = oplogSet.iterator();
+      for (int i = 0; i < results.size(); i++) {
+        Oplog oplog = oplogs.next();
+        byteCount += getDrfRecoveryResult(results.get(i));
+        deletedIds.addAll(oplogDeletedIds.get(i));
+        oplogDeletedIds.set(i, null);
+        if (!alreadyRecoveredOnce) {
+          updateOplogEntryId(oplog.getMaxRecoveredOplogEntryId());
+        }
+      }
+      return byteCount;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private long getDrfRecoveryResult(Future<Long> result) {
+    try {
+      return result.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      parent.getCancelCriterion().checkCancelInProgress(e);
+      throw new DiskAccessException("Interrupted while recovering drf files", e, parent);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new DiskAccessException("Failed to recover drf files", cause, parent);
+    }
+  }
+
   private long recoverOplogs(long byteCount) {
     OplogEntryIdSet deletedIds = new OplogEntryIdSet();
     TreeSet<Oplog> oplogSet = getSortedOplogs();
@@ -458,19 +542,12 @@ public class PersistentOplogSet implements OplogSet {
       long startOpLogRecovery = System.currentTimeMillis();
 
       // first figure out all entries that have been destroyed
-      boolean latestOplog = true;
-      for (Oplog oplog : oplogSet) {
-        byteCount += oplog.recoverDrf(deletedIds, getAlreadyRecoveredOnce().get(), latestOplog);
-        latestOplog = false;
-        if (!getAlreadyRecoveredOnce().get()) {
-          updateOplogEntryId(oplog.getMaxRecoveredOplogEntryId());
-        }
-      }
+      byteCount += recoverDrfs(oplogSet, deletedIds);
 
       parent.incDeadRecordCount(deletedIds.size());
 
       // now figure out live entries
-      latestOplog = true;
+      boolean latestOplog = true;
       for (Oplog oplog : oplogSet) {
         long startOpLogRead = parent.getStats().startOplogRead();
         long bytesRead = oplog.recoverCrf(deletedIds, recoverValues(), recoverValuesSync(),
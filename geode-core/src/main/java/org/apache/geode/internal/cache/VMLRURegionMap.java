@@ -22,6 +22,7 @@ import org.apache.logging.log4j.Logger;
 
 import org.apache.geode.InternalGemFireException;
 import org.apache.geode.cache.EvictionAction;
+import org.apache.geode.cache.EvictionAlgorithm;
 import org.apache.geode.cache.RegionDestroyedException;
 import org.apache.geode.internal.Assert;
 import org.apache.geode.internal.cache.control.InternalResourceManager;
@@ -157,8 +158,9 @@ public class VMLRURegionMap extends AbstractRegionMap {
   public boolean beginChangeValueForm(EvictableEntry le, CachedDeserializable cd, Object v) {
     // make sure this cached deserializable is still in the entry
     {
-      if (getEvictionController().getEvictionAlgorithm().isLRUEntry()) {
-        // no need to worry about the value changing form with entry LRU.
+      EvictionAlgorithm algorithm = getEvictionController().getEvictionAlgorithm();
+      if (algorithm.isLRUEntry() || algorithm.isLFU()) {
+        // no need to worry about the value changing form with entry LRU or LFU.
         return false;
       }
       Object curVal = le.getValue(); // OFFHEAP: _getValue ok
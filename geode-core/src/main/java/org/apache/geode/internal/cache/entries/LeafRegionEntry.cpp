@@ -23,11 +23,14 @@ package org.apache.geode.internal.cache.entries;
 #define KEY_TYPE long
 #elif defined(KEY_UUID)
 #define KEY_TYPE UUID
-#elif defined(KEY_STRING1) || defined(KEY_STRING2)
+#elif defined(KEY_STRING1) || defined(KEY_STRING2) || defined(KEY_STRING_ADDRESS)
 #define KEY_TYPE String
 #else
 #error the KEY_TYPE macro must be defined    
 #endif
+#if defined(KEY_INT) || defined(KEY_LONG) || defined(KEY_UUID)
+#define KEY_HASH
+#endif
 
 #ifdef KEY_UUID
 import java.util.UUID;
@@ -36,6 +39,9 @@ import java.util.UUID;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 #endif
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+#ifdef KEY_STRING_ADDRESS
+import org.apache.geode.OutOfOffHeapMemoryException;
+#endif
 #if defined(VERSIONED)
 import org.apache.geode.cache.EntryEvent;
 import org.apache.geode.internal.cache.InternalRegion;
@@ -67,10 +73,16 @@ import org.apache.geode.internal.cache.versions.VersionTag;
 #ifdef OFFHEAP
 import org.apache.geode.internal.cache.Token;
 import org.apache.geode.internal.offheap.OffHeapRegionEntryHelper;
+#ifdef KEY_STRING_ADDRESS
+import org.apache.geode.internal.offheap.OffHeapStringKeyHelper;
+#endif
 import org.apache.geode.internal.offheap.annotations.Released;
 import org.apache.geode.internal.offheap.annotations.Retained;
 import org.apache.geode.internal.offheap.annotations.Unretained;
 #endif
+#ifdef KEY_HASH
+import org.apache.geode.internal.util.concurrent.CustomEntryConcurrentHashMap;
+#endif
 import org.apache.geode.internal.util.concurrent.CustomEntryConcurrentHashMap.HashEntry;
 
 /*
@@ -90,6 +102,7 @@ import org.apache.geode.internal.util.concurrent.CustomEntryConcurrentHashMap.Ha
  * key uuid: KEY_UUID
  * key string1: KEY_STRING1
  * key string2: KEY_STRING2
+ * key string address: KEY_STRING_ADDRESS
  */
 
 /**
@@ -103,7 +116,9 @@ public class LEAF_CLASS extends PARENT_CLASS {
   private static final AtomicLongFieldUpdater<LEAF_CLASS> LAST_MODIFIED_UPDATER
     = AtomicLongFieldUpdater.newUpdater(LEAF_CLASS.class, "lastModified");
 
+#ifndef KEY_HASH
   protected int hash;
+#endif
 
   private HashEntry<Object, Object> nextEntry;
 
@@ -199,6 +214,21 @@ public class LEAF_CLASS extends PARENT_CLASS {
    * bits2 encodes character data
    */
   private final long bits2;
+#elif defined(KEY_STRING_ADDRESS)
+  /**
+   * The address of the off-heap chunk that stores the key. Zero while the key is still on the heap
+   * and KEY_RELEASED once the chunk has been freed.
+   */
+  private volatile long keyAddress;
+
+  /**
+   * The key while it is on the heap, which is until storeKeyOffHeap moves it into a chunk and again
+   * once that chunk is released, so that this entry can still be found while it is removed from
+   * the map. Null while the key is off-heap.
+   */
+  private volatile String heapKey;
+
+  private static final long KEY_RELEASED = -1L;
 #endif
 
   public LEAF_CLASS (final RegionEntryContext context, final KEY_TYPE key,
@@ -280,6 +310,8 @@ public class LEAF_CLASS extends PARENT_CLASS {
     tempBits1 |= key.length();
     this.bits1 = tempBits1;
     this.bits2 = tempBits2;
+#elif defined(KEY_STRING_ADDRESS)
+    this.heapKey = key;
 #endif
   }
 
@@ -306,6 +338,11 @@ public class LEAF_CLASS extends PARENT_CLASS {
   protected void setValueField(final Object value) {
 #endif
     OffHeapRegionEntryHelper.setValue(this, value);
+#ifdef KEY_STRING_ADDRESS
+    if (value == Token.REMOVED_PHASE2) {
+      releaseKey();
+    }
+#endif
   }
 
   @Override
@@ -332,6 +369,9 @@ public class LEAF_CLASS extends PARENT_CLASS {
 #endif
   public void release() {
     OffHeapRegionEntryHelper.releaseEntry(this);
+#ifdef KEY_STRING_ADDRESS
+    releaseKey();
+#endif
   }
 
   @Override
@@ -360,6 +400,25 @@ public class LEAF_CLASS extends PARENT_CLASS {
     return LAST_MODIFIED_UPDATER.compareAndSet(this, expectedValue, newValue);
   }
 
+#ifdef KEY_HASH
+  // the hash is computed from the key so the entry does not need a field for it
+  @Override
+  public int getEntryHash() {
+#if defined(KEY_INT)
+    return CustomEntryConcurrentHashMap.keyHash(Integer.hashCode(this.key));
+#elif defined(KEY_LONG)
+    return CustomEntryConcurrentHashMap.keyHash(Long.hashCode(this.key));
+#else
+    final long hilo = this.keyMostSigBits ^ this.keyLeastSigBits;
+    return CustomEntryConcurrentHashMap.keyHash(((int) (hilo >> 32)) ^ (int) hilo);
+#endif
+  }
+
+  @Override
+  protected void setEntryHash(final int hash) {
+    // nothing needed since getEntryHash computes the same hash from the key
+  }
+#else
   @Override
   public int getEntryHash() {
     return this.hash;
@@ -369,6 +428,7 @@ public class LEAF_CLASS extends PARENT_CLASS {
   protected void setEntryHash(final int hash) {
     this.hash = hash;
   }
+#endif
 
   @Override
   public HashEntry<Object, Object> getNextEntry() {
@@ -942,6 +1002,96 @@ public class LEAF_CLASS extends PARENT_CLASS {
     }
     return false;
   }
+
+#elif defined(KEY_STRING_ADDRESS)
+  /**
+   * Returns the key. While the key is off-heap each call decodes a new String from the key chunk,
+   * so callers that need the key more than once should hold on to the result.
+   */
+  @Override
+  public Object getKey() {
+    final String heapKey = this.heapKey;
+    if (heapKey != null) {
+      return heapKey;
+    }
+    final long address = this.keyAddress;
+    if (address != KEY_RELEASED) {
+      final String key = OffHeapStringKeyHelper.readKey(address);
+      // the chunk may have been freed and reused by someone else while we read it
+      if (key != null && this.keyAddress == address) {
+        return key;
+      }
+    }
+    // releaseKey sets heapKey before it changes keyAddress
+    return this.heapKey;
+  }
+
+  // DO NOT modify this class. It was generated from LeafRegionEntry.cpp
+
+  @Override
+  public boolean isKeyEqual(final Object key) {
+    if (key instanceof String) {
+      final String heapKey = this.heapKey;
+      if (heapKey != null) {
+        return key.equals(heapKey);
+      }
+      final long address = this.keyAddress;
+      if (address != KEY_RELEASED) {
+        final Boolean result = OffHeapStringKeyHelper.isKeyEqual(address, (String) key);
+        if (result != null && this.keyAddress == address) {
+          return result;
+        }
+      }
+      return key.equals(this.heapKey);
+    }
+    return false;
+  }
+
+  /**
+   * Moves the key into its own off-heap chunk. The key stays on the heap until the entry has been
+   * added to the region map so that entries that lose a race to be added, and are dropped, never
+   * allocate a chunk. Does nothing if the key was already moved or released, or if there is not
+   * enough off-heap memory for it.
+   */
+  @Override
+  public synchronized void storeKeyOffHeap() {
+    if (this.keyAddress != 0L) {
+      return;
+    }
+    final long address;
+    try {
+      address = OffHeapStringKeyHelper.allocateKey(this.heapKey);
+    } catch (OutOfOffHeapMemoryException e) {
+      return;
+    }
+    // set the address first since readers only look at it once heapKey is null
+    this.keyAddress = address;
+    this.heapKey = null;
+  }
+
+  @Override
+  public long getKeyAddress() {
+    final long address = this.keyAddress;
+    return address == KEY_RELEASED ? 0L : address;
+  }
+
+  /**
+   * Copies the key back to the heap and frees its off-heap chunk. After this the key is never
+   * moved off-heap again. Safe to call more than once.
+   */
+  private synchronized void releaseKey() {
+    final long address = this.keyAddress;
+    if (address == KEY_RELEASED) {
+      return;
+    }
+    if (address != 0L) {
+      this.heapKey = OffHeapStringKeyHelper.readKey(address);
+    }
+    this.keyAddress = KEY_RELEASED;
+    if (address != 0L) {
+      OffHeapStringKeyHelper.releaseKey(address);
+    }
+  }
 #endif
 
   // DO NOT modify this class. It was generated from LeafRegionEntry.cpp
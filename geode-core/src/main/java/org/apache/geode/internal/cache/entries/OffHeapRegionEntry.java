@@ -38,4 +38,21 @@ public interface OffHeapRegionEntry extends RegionEntry, Releasable {
    * @return newAddr OFF_HEAP_ADDRESS
    */
   boolean setAddress(long expectedAddr, long newAddr);
+
+  /**
+   * Moves this entry's key into off-heap memory if this kind of entry keeps its key there. Called
+   * once the entry has been added to its region map, so that entries that are created but never
+   * added do not allocate off-heap memory for their key.
+   */
+  default void storeKeyOffHeap() {
+    // the key stays on the heap
+  }
+
+  /**
+   * Returns the address of the off-heap chunk that stores this entry's key, or zero if the key is
+   * on the heap.
+   */
+  default long getKeyAddress() {
+    return 0L;
+  }
 }
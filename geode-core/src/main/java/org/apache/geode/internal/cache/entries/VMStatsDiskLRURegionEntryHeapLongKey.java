@@ -30,6 +30,7 @@ import org.apache.geode.internal.cache.RegionEntryContext;
 import org.apache.geode.internal.cache.eviction.EvictionController;
 import org.apache.geode.internal.cache.eviction.EvictionNode;
 import org.apache.geode.internal.cache.persistence.DiskRecoveryStore;
+import org.apache.geode.internal.util.concurrent.CustomEntryConcurrentHashMap;
 import org.apache.geode.internal.util.concurrent.CustomEntryConcurrentHashMap.HashEntry;
 
 /*
@@ -40,7 +41,7 @@ import org.apache.geode.internal.util.concurrent.CustomEntryConcurrentHashMap.Ha
  * One of the following key macros must be defined:
  *
  * key object: KEY_OBJECT key int: KEY_INT key long: KEY_LONG key uuid: KEY_UUID key string1:
- * KEY_STRING1 key string2: KEY_STRING2
+ * KEY_STRING1 key string2: KEY_STRING2 key string address: KEY_STRING_ADDRESS
  */
 /**
  * Do not modify this class. It was generated. Instead modify LeafRegionEntry.cpp and then run
@@ -50,7 +51,6 @@ public class VMStatsDiskLRURegionEntryHeapLongKey extends VMStatsDiskLRURegionEn
   // --------------------------------------- common fields ----------------------------------------
   private static final AtomicLongFieldUpdater<VMStatsDiskLRURegionEntryHeapLongKey> LAST_MODIFIED_UPDATER =
       AtomicLongFieldUpdater.newUpdater(VMStatsDiskLRURegionEntryHeapLongKey.class, "lastModified");
-  protected int hash;
   private HashEntry<Object, Object> nextEntry;
   @SuppressWarnings("unused")
   private volatile long lastModified;
@@ -101,14 +101,15 @@ public class VMStatsDiskLRURegionEntryHeapLongKey extends VMStatsDiskLRURegionEn
     return LAST_MODIFIED_UPDATER.compareAndSet(this, expectedValue, newValue);
   }
 
+  // the hash is computed from the key so the entry does not need a field for it
   @Override
   public int getEntryHash() {
-    return hash;
+    return CustomEntryConcurrentHashMap.keyHash(Long.hashCode(key));
   }
 
   @Override
   protected void setEntryHash(final int hash) {
-    this.hash = hash;
+    // nothing needed since getEntryHash computes the same hash from the key
   }
 
   @Override
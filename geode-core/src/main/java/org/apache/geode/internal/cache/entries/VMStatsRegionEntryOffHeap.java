@@ -56,6 +56,8 @@ public abstract class VMStatsRegionEntryOffHeap extends VMStatsRegionEntry
             } else {
               return new VMStatsRegionEntryOffHeapStringKey2(context, skey, value, byteEncoded);
             }
+          } else if (InlineKeyHelper.OFF_HEAP_STRING_KEYS) {
+            return new VMStatsRegionEntryOffHeapStringKeyAddress(context, skey, value);
           }
         } else if (keyClass == UUID.class) {
           return new VMStatsRegionEntryOffHeapUUIDKey(context, (UUID) key, value);
@@ -56,6 +56,8 @@ public abstract class VMThinDiskRegionEntryOffHeap extends VMThinDiskRegionEntry
             } else {
               return new VMThinDiskRegionEntryOffHeapStringKey2(context, skey, value, byteEncoded);
             }
+          } else if (InlineKeyHelper.OFF_HEAP_STRING_KEYS) {
+            return new VMThinDiskRegionEntryOffHeapStringKeyAddress(context, skey, value);
           }
         } else if (keyClass == UUID.class) {
           return new VMThinDiskRegionEntryOffHeapUUIDKey(context, (UUID) key, value);
@@ -56,6 +56,8 @@ public abstract class VMThinLRURegionEntryOffHeap extends VMThinLRURegionEntry
             } else {
               return new VMThinLRURegionEntryOffHeapStringKey2(context, skey, value, byteEncoded);
             }
+          } else if (InlineKeyHelper.OFF_HEAP_STRING_KEYS) {
+            return new VMThinLRURegionEntryOffHeapStringKeyAddress(context, skey, value);
           }
         } else if (keyClass == UUID.class) {
           return new VMThinLRURegionEntryOffHeapUUIDKey(context, (UUID) key, value);
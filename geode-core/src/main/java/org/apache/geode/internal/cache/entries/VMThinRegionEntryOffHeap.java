@@ -56,6 +56,8 @@ public abstract class VMThinRegionEntryOffHeap extends VMThinRegionEntry
             } else {
               return new VMThinRegionEntryOffHeapStringKey2(context, skey, value, byteEncoded);
             }
+          } else if (InlineKeyHelper.OFF_HEAP_STRING_KEYS) {
+            return new VMThinRegionEntryOffHeapStringKeyAddress(context, skey, value);
           }
         } else if (keyClass == UUID.class) {
           return new VMThinRegionEntryOffHeapUUIDKey(context, (UUID) key, value);
@@ -58,6 +58,8 @@ public abstract class VersionedStatsDiskRegionEntryOffHeap extends VersionedStat
               return new VersionedStatsDiskRegionEntryOffHeapStringKey2(context, skey, value,
                   byteEncoded);
             }
+          } else if (InlineKeyHelper.OFF_HEAP_STRING_KEYS) {
+            return new VersionedStatsDiskRegionEntryOffHeapStringKeyAddress(context, skey, value);
           }
         } else if (keyClass == UUID.class) {
           return new VersionedStatsDiskRegionEntryOffHeapUUIDKey(context, (UUID) key, value);
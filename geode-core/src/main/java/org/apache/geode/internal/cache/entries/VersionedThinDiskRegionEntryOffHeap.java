@@ -58,6 +58,8 @@ public abstract class VersionedThinDiskRegionEntryOffHeap extends VersionedThinD
               return new VersionedThinDiskRegionEntryOffHeapStringKey2(context, skey, value,
                   byteEncoded);
             }
+          } else if (InlineKeyHelper.OFF_HEAP_STRING_KEYS) {
+            return new VersionedThinDiskRegionEntryOffHeapStringKeyAddress(context, skey, value);
           }
         } else if (keyClass == UUID.class) {
           return new VersionedThinDiskRegionEntryOffHeapUUIDKey(context, (UUID) key, value);
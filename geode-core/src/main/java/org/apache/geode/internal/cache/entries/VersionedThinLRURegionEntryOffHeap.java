@@ -58,6 +58,8 @@ public abstract class VersionedThinLRURegionEntryOffHeap extends VersionedThinLR
               return new VersionedThinLRURegionEntryOffHeapStringKey2(context, skey, value,
                   byteEncoded);
             }
+          } else if (InlineKeyHelper.OFF_HEAP_STRING_KEYS) {
+            return new VersionedThinLRURegionEntryOffHeapStringKeyAddress(context, skey, value);
           }
         } else if (keyClass == UUID.class) {
           return new VersionedThinLRURegionEntryOffHeapUUIDKey(context, (UUID) key, value);
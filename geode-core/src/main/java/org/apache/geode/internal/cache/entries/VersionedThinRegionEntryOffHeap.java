@@ -58,6 +58,8 @@ public abstract class VersionedThinRegionEntryOffHeap extends VersionedThinRegio
               return new VersionedThinRegionEntryOffHeapStringKey2(context, skey, value,
                   byteEncoded);
             }
+          } else if (InlineKeyHelper.OFF_HEAP_STRING_KEYS) {
+            return new VersionedThinRegionEntryOffHeapStringKeyAddress(context, skey, value);
           }
         } else if (keyClass == UUID.class) {
           return new VersionedThinRegionEntryOffHeapUUIDKey(context, (UUID) key, value);
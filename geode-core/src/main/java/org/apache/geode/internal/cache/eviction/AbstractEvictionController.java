@@ -75,7 +75,8 @@ public abstract class AbstractEvictionController implements EvictionController {
       return new MemoryLRUController(evictionCounters, maximum, sizer, action, isOffHeap,
           algorithm);
     }
-    if (algorithm == EvictionAlgorithm.LRU_ENTRY || algorithm == EvictionAlgorithm.LIFO_ENTRY) {
+    if (algorithm == EvictionAlgorithm.LRU_ENTRY || algorithm == EvictionAlgorithm.LIFO_ENTRY
+        || algorithm == EvictionAlgorithm.LFU_ENTRY) {
       evictionStats = new CountLRUStatistics(statsFactory, statsName);
       evictionCounters = new EvictionCountersImpl(evictionStats);
       return new CountLRUEviction(evictionCounters, maximum, action, algorithm);
@@ -84,7 +84,7 @@ abstract class AbstractEvictionList implements EvictionList {
     }
   }
 
-  private synchronized void initEmptyList() {
+  synchronized void initEmptyList() {
     size.set(0);
     head.setNext(tail);
     tail.setPrevious(head);
@@ -154,6 +154,23 @@ abstract class AbstractEvictionList implements EvictionList {
     return evictionNode;
   }
 
+  /**
+   * Adds an lru node to the head of the list so that it is the next one considered for eviction.
+   */
+  protected synchronized void linkHeadEntry(EvictionNode evictionNode) {
+    if (evictionNode.next() != null) {
+      // already in the list
+      return;
+    }
+
+    evictionNode.setPrevious(head);
+    evictionNode.setNext(head.next());
+    head.next().setPrevious(evictionNode);
+    head.setNext(evictionNode);
+
+    incrementSize();
+  }
+
   /**
    * Remove and return the head entry in the list
    */
@@ -23,6 +23,8 @@ public class EvictionListBuilder {
 
   private final boolean evictionScanAsync;
 
+  private final int segments;
+
   private final EvictionController controller;
 
   public EvictionListBuilder(EvictionController evictionController) {
@@ -30,13 +32,19 @@ public class EvictionListBuilder {
     Optional<Boolean> asyncScan =
         SystemProperty.getProductBooleanProperty(SystemPropertyHelper.EVICTION_SCAN_ASYNC);
     evictionScanAsync = asyncScan.orElse(true);
+    segments = SystemProperty
+        .getProductIntegerProperty(SystemPropertyHelper.EVICTION_LIST_SEGMENTS).orElse(1);
   }
 
   public EvictionList create() {
     if (controller.getEvictionAlgorithm().isLIFO()) {
       return new LIFOList(controller);
+    } else if (controller.getEvictionAlgorithm().isLFU()) {
+      return new TinyLFUList(controller);
     } else {
-      if (evictionScanAsync) {
+      if (segments > 1) {
+        return new StripedLRUList(controller, segments);
+      } else if (evictionScanAsync) {
         return new LRUListWithAsyncSorting(controller);
       } else {
         return new LRUListWithSyncSorting(controller);
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.eviction;
+
+/**
+ * A count-min sketch that estimates how often a key has been seen, using four 4-bit counters per
+ * key packed into a {@code long} table. Once the number of increments reaches ten times the table
+ * size every counter is halved, so old popularity gradually ages out.
+ *
+ * <p>
+ * This class is not thread safe. Callers must provide their own synchronization.
+ */
+class FrequencySketch {
+
+  private static final long[] SEED = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L,
+      0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+  private static final long RESET_MASK = 0x7777777777777777L;
+
+  private static final long ONE_MASK = 0x1111111111111111L;
+
+  private static final int MAX_FREQUENCY = 15;
+
+  private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+  private long[] table;
+
+  private int tableMask;
+
+  private int sampleSize;
+
+  private int size;
+
+  FrequencySketch(int initialCapacity) {
+    ensureCapacity(initialCapacity);
+  }
+
+  /**
+   * Grows the table so that it can estimate frequencies for at least the given number of keys.
+   * Growing keeps the current counts.
+   */
+  void ensureCapacity(int capacity) {
+    int tableSize = tableSizeFor(Math.min(Math.max(capacity, 1), MAXIMUM_CAPACITY));
+    if (table != null && table.length >= tableSize) {
+      return;
+    }
+    long[] newTable = new long[tableSize];
+    if (table != null) {
+      // a key's index in the larger table only adds high bits to its index in the old one, so a
+      // copy of the old table in every part of the new one leaves each key with the same counters
+      for (int i = 0; i < tableSize; i += table.length) {
+        System.arraycopy(table, 0, newTable, i, table.length);
+      }
+    }
+    table = newTable;
+    tableMask = tableSize - 1;
+    sampleSize = (int) Math.min(10L * tableSize, Integer.MAX_VALUE);
+  }
+
+  int capacity() {
+    return table.length;
+  }
+
+  /**
+   * Returns the estimated number of times the key was seen, up to a maximum of 15.
+   */
+  int frequency(Object key) {
+    int hash = spread(key);
+    int start = (hash & 3) << 2;
+    int frequency = MAX_FREQUENCY;
+    for (int i = 0; i < 4; i++) {
+      int index = indexOf(hash, i);
+      int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+      frequency = Math.min(frequency, count);
+    }
+    return frequency;
+  }
+
+  /**
+   * Records one more occurrence of the key.
+   */
+  void increment(Object key) {
+    int hash = spread(key);
+    int start = (hash & 3) << 2;
+    boolean added = false;
+    for (int i = 0; i < 4; i++) {
+      added |= incrementAt(indexOf(hash, i), start + i);
+    }
+    if (added && ++size >= sampleSize) {
+      reset();
+    }
+  }
+
+  private boolean incrementAt(int index, int counter) {
+    int offset = counter << 2;
+    long mask = 0xfL << offset;
+    if ((table[index] & mask) != mask) {
+      table[index] += 1L << offset;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Halves every counter so that keys that are no longer used lose their popularity.
+   */
+  private void reset() {
+    int oddCounters = 0;
+    for (int i = 0; i < table.length; i++) {
+      oddCounters += Long.bitCount(table[i] & ONE_MASK);
+      table[i] = (table[i] >>> 1) & RESET_MASK;
+    }
+    size = (size - (oddCounters >>> 2)) >>> 1;
+  }
+
+  private int indexOf(int hash, int depth) {
+    long index = (hash + SEED[depth]) * SEED[depth];
+    index += index >>> 32;
+    return ((int) index) & tableMask;
+  }
+
+  private static int spread(Object key) {
+    int hash = key == null ? 0 : key.hashCode();
+    hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+    hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+    return (hash >>> 16) ^ hash;
+  }
+
+  private static int tableSizeFor(int capacity) {
+    int highestOneBit = Integer.highestOneBit(capacity);
+    return highestOneBit == capacity ? capacity : highestOneBit << 1;
+  }
+}
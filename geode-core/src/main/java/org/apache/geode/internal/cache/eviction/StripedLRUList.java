@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.eviction;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.geode.internal.cache.BucketRegion;
+import org.apache.geode.internal.cache.versions.RegionVersionVector;
+
+/**
+ * StripedLRUList splits the eviction list into a fixed number of independently locked segments so
+ * that concurrent appends and destroys on different entries do not all contend on a single
+ * monitor. A node is always assigned to the segment selected by its identity hash code, so it is
+ * appended to and destroyed from the same segment. Evictions visit the segments round robin and
+ * take the least recently used entry of the first segment that has one, which makes the order
+ * only approximately LRU across the whole list.
+ */
+public class StripedLRUList implements EvictionList {
+
+  private final EvictionController controller;
+
+  private final AbstractEvictionList[] segments;
+
+  private final AtomicInteger nextEvictionSegment = new AtomicInteger();
+
+  StripedLRUList(EvictionController controller, int segmentCount) {
+    if (segmentCount < 1) {
+      throw new IllegalArgumentException("segmentCount must be positive: " + segmentCount);
+    }
+    this.controller = controller;
+    segments = new AbstractEvictionList[segmentCount];
+    for (int i = 0; i < segmentCount; i++) {
+      segments[i] = new LRUListWithSyncSorting(controller);
+    }
+  }
+
+  @Override
+  public void closeStats() {
+    getStatistics().close();
+  }
+
+  @Override
+  public void appendEntry(EvictionNode evictionNode) {
+    getSegment(evictionNode).appendEntry(evictionNode);
+  }
+
+  @Override
+  public EvictableEntry getEvictableEntry() {
+    int start = nextEvictionSegment.getAndIncrement();
+    for (int i = 0; i < segments.length; i++) {
+      EvictableEntry entry = segments[Math.floorMod(start + i, segments.length)]
+          .getEvictableEntry();
+      if (entry != null) {
+        return entry;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public void destroyEntry(EvictionNode evictionNode) {
+    getSegment(evictionNode).destroyEntry(evictionNode);
+  }
+
+  @Override
+  public EvictionCounters getStatistics() {
+    return controller.getCounters();
+  }
+
+  @Override
+  public void clear(RegionVersionVector regionVersionVector, BucketRegion bucketRegion) {
+    if (regionVersionVector != null) {
+      return; // when concurrency checks are enabled the clear operation removes entries iteratively
+    }
+
+    synchronized (this) {
+      if (bucketRegion != null) {
+        getStatistics().decrementCounter(bucketRegion.getCounter());
+        bucketRegion.resetCounter();
+      } else {
+        getStatistics().resetCounter();
+      }
+      for (AbstractEvictionList segment : segments) {
+        segment.initEmptyList();
+      }
+    }
+  }
+
+  @Override
+  public int size() {
+    int size = 0;
+    for (AbstractEvictionList segment : segments) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  @Override
+  public void incrementRecentlyUsed() {
+    // nothing needed
+  }
+
+  int getSegmentCount() {
+    return segments.length;
+  }
+
+  private AbstractEvictionList getSegment(EvictionNode evictionNode) {
+    int hash = System.identityHashCode(evictionNode);
+    return segments[Math.floorMod(hash ^ (hash >>> 16), segments.length)];
+  }
+}
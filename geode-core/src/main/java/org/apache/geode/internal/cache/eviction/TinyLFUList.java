@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.eviction;
+
+import org.apache.logging.log4j.Logger;
+
+import org.apache.geode.cache.EvictionAlgorithm;
+import org.apache.geode.internal.cache.RegionEntry;
+import org.apache.geode.internal.logging.log4j.LogMarker;
+import org.apache.geode.logging.internal.log4j.api.LogService;
+
+/**
+ * TinyLFUList is the eviction list used by the {@link EvictionAlgorithm#LFU_ENTRY} algorithm.
+ * Entries are kept in the same order as {@link LRUListWithSyncSorting}, but a
+ * {@link FrequencySketch} of the keys decides which entry is evicted. A key is counted every time
+ * its entry is added to the list and every time the eviction scan finds the entry recently used.
+ * The sketch also remembers keys after their entries have been evicted.
+ *
+ * <p>
+ * Before evicting the least recently used entry, its key frequency is compared with that of the
+ * newest entry in the list. If the newest entry is not more popular, it is evicted instead and the
+ * least recently used entry keeps its place at the head of the list. A scan over many keys that
+ * are only read once therefore evicts its own entries rather than the frequently used ones.
+ */
+public class TinyLFUList extends LRUListWithSyncSorting {
+
+  private static final Logger logger = LogService.getLogger();
+
+  private static final int INITIAL_SKETCH_CAPACITY = 16;
+
+  private final FrequencySketch sketch = new FrequencySketch(INITIAL_SKETCH_CAPACITY);
+
+  public TinyLFUList(EvictionController controller) {
+    super(controller);
+  }
+
+  @Override
+  public synchronized void appendEntry(EvictionNode evictionNode) {
+    if (evictionNode.next() != null) {
+      // already in the list
+      return;
+    }
+    super.appendEntry(evictionNode);
+    if (size() > sketch.capacity()) {
+      sketch.ensureCapacity(size() * 2);
+    }
+    sketch.increment(keyOf(evictionNode));
+  }
+
+  @Override
+  public EvictableEntry getEvictableEntry() {
+    EvictionNode candidate = newestEntry();
+    EvictableEntry victim = super.getEvictableEntry();
+    if (victim == null || candidate == null || candidate == victim || !isEvictable(candidate)) {
+      return victim;
+    }
+
+    synchronized (this) {
+      int candidateFrequency = sketch.frequency(keyOf(candidate));
+      int victimFrequency = sketch.frequency(keyOf(victim));
+      if (candidateFrequency > victimFrequency || !removeEntry(candidate)) {
+        return victim;
+      }
+      if (logger.isTraceEnabled(LogMarker.LRU_CLOCK_VERBOSE)) {
+        logger.trace(LogMarker.LRU_CLOCK_VERBOSE,
+            "evicting newest entry {} with frequency {} instead of {} with frequency {}",
+            candidate, candidateFrequency, victim, victimFrequency);
+      }
+      // the victim was taken off the list before this lock was held, so it may have been
+      // destroyed or joined a transaction since then and no longer belongs in the list
+      if (!victim.isRemoved() && !victim.isInUseByTransaction()) {
+        linkHeadEntry(victim);
+      }
+    }
+    return (EvictableEntry) candidate;
+  }
+
+  synchronized int frequency(EvictionNode evictionNode) {
+    return sketch.frequency(keyOf(evictionNode));
+  }
+
+  private synchronized EvictionNode newestEntry() {
+    EvictionNode newest = tail.previous();
+    return newest == head ? null : newest;
+  }
+
+  private static Object keyOf(EvictionNode evictionNode) {
+    if (evictionNode instanceof RegionEntry) {
+      return ((RegionEntry) evictionNode).getKey();
+    }
+    return evictionNode;
+  }
+}
@@ -65,6 +65,7 @@ import org.apache.geode.DataSerializer;
 import org.apache.geode.StatisticsFactory;
 import org.apache.geode.SystemFailure;
 import org.apache.geode.ToDataException;
+import org.apache.geode.annotations.VisibleForTesting;
 import org.apache.geode.annotations.internal.MakeNotStatic;
 import org.apache.geode.cache.RegionDestroyedException;
 import org.apache.geode.cache.client.internal.PoolImpl;
@@ -701,6 +702,12 @@ public class AcceptorImpl implements Acceptor, Runnable {
             MILLISECONDS, threadName, threadInitializer, commandWrapper,
             getStats().getCnxPoolHelper(), getThreadMonitorObj());
       }
+      if (CoreLoggingExecutors.useVirtualThreads()) {
+        // each connection blocks reading its socket, so a virtual thread per connection is cheap
+        return CoreLoggingExecutors.newVirtualThreadPoolWithSynchronousFeed(maxConnections,
+            threadName, threadInitializer, commandWrapper, getStats().getCnxPoolHelper(),
+            getThreadMonitorObj());
+      }
       return CoreLoggingExecutors.newThreadPoolWithSynchronousFeed(MINIMUM_MAX_CONNECTIONS,
           maxConnections, 0L, SECONDS, threadName, threadInitializer, commandWrapper);
     } catch (IllegalArgumentException poolInitException) {
@@ -973,7 +980,7 @@ public class AcceptorImpl implements Acceptor, Runnable {
                 tmpSel.selectNow(); // clear canceled key
                 selectorRegistrations.remove(sc);
                 registeredKeys--;
-                sc.makeBlocking();
+                // the worker switches the channel back to blocking, see ServerConnection.run
                 // we need to say we are processing a message
                 // so that that client health monitor will not
                 // kill us while we wait for a thread in the thread pool.
@@ -1113,29 +1120,20 @@ public class AcceptorImpl implements Acceptor, Runnable {
             try {
               if (key.isValid() && key.isReadable()) {
                 // this is the only event we currently register for
-                try {
-                  key.cancel();
-                  selectorRegistrations.remove(sc);
-                  registeredKeys--;
-                  cancelCount++;
-                  sc.makeBlocking();
-                  // we need to say we are processing a message
-                  // so that that client health monitor will not
-                  // kill us while we wait for a thread in the thread pool.
-                  // This is also be used to determine how long we are
-                  // in the thread pool queue and to cancel operations that
-                  // have waited too long in the queue.
-                  sc.setProcessingMessage();
-                } catch (ClosedChannelException ignore) {
-                  finishCon(sc);
-                  continue;
-                } catch (IOException ex) {
-                  finishCon(sc);
-                  if (isRunning()) {
-                    logger.warn("unexpected", ex);
-                  }
-                  continue;
-                }
+                key.cancel();
+                selectorRegistrations.remove(sc);
+                registeredKeys--;
+                cancelCount++;
+                // Cancelling the key is enough to allow the channel to be made blocking again.
+                // That is left to the worker thread so the single selector thread only does
+                // the minimum per ready key and can keep up with many connections.
+                // we need to say we are processing a message
+                // so that that client health monitor will not
+                // kill us while we wait for a thread in the thread pool.
+                // This is also be used to determine how long we are
+                // in the thread pool queue and to cancel operations that
+                // have waited too long in the queue.
+                sc.setProcessingMessage();
                 try {
                   stats.incThreadQueueSize();
                   pool.execute(sc);
@@ -1483,26 +1481,35 @@ public class AcceptorImpl implements Acceptor, Runnable {
     if (isSelector()) {
       serverConn.registerWithSelector();
     } else {
+      executeServerConnection(serverConn, socket);
+    }
+  }
+
+  /**
+   * Hands the connection to the server connection pool, refusing the handshake if the pool has no
+   * thread left to run it.
+   */
+  @VisibleForTesting
+  void executeServerConnection(ServerConnection serverConn, Socket socket) {
+    try {
+      pool.execute(serverConn);
+    } catch (RejectedExecutionException rejected) {
+      if (!isRunning()) {
+        return;
+      }
+      logger.warn(
+          "Rejected connection from {} because incoming request was rejected by pool possibly due to thread exhaustion",
+          serverConn);
       try {
-        pool.execute(serverConn);
-      } catch (RejectedExecutionException rejected) {
-        if (!isRunning()) {
-          return;
-        }
-        logger.warn(
-            "Rejected connection from {} because incoming request was rejected by pool possibly due to thread exhaustion",
-            serverConn);
-        try {
-          refuseHandshake(socket.getOutputStream(),
-              String.format("exceeded max-connections %s",
-                  maxConnections),
-              REPLY_REFUSED);
+        refuseHandshake(socket.getOutputStream(),
+            String.format("exceeded max-connections %s",
+                maxConnections),
+            REPLY_REFUSED);
 
-        } catch (Exception ex) {
-          logger.debug("rejection message failed", ex);
-        }
-        serverConn.cleanup();
+      } catch (Exception ex) {
+        logger.debug("rejection message failed", ex);
       }
+      serverConn.cleanup();
     }
   }
 
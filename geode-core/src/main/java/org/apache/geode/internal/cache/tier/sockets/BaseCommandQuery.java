@@ -15,8 +15,9 @@
 package org.apache.geode.internal.cache.tier.sockets;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.List;
+import java.util.Iterator;
 import java.util.Set;
 
 import org.apache.geode.cache.RegionDestroyedException;
@@ -176,11 +177,12 @@ public abstract class BaseCommandQuery extends BaseCommand {
           isStructs = collectionType.getElementType().isStructType();
         }
 
-        int numberOfChunks = (int) Math.ceil(selectResults.size() * 1.0 / MAXIMUM_CHUNK_SIZE);
+        // the results are only iterated once, since sizing lazily merged results, such as those
+        // of partitioned region queries, takes a full pass over them
+        Iterator<?> resultsIterator = selectResults.iterator();
 
         if (logger.isTraceEnabled()) {
-          logger.trace("{}: Query results size: {}: Entries in chunk: {}: Number of chunks: {}",
-              servConn.getName(), selectResults.size(), MAXIMUM_CHUNK_SIZE, numberOfChunks);
+          logger.trace("{}: Entries in chunk: {}", servConn.getName(), MAXIMUM_CHUNK_SIZE);
         }
 
         long oldStart = start;
@@ -193,7 +195,7 @@ public abstract class BaseCommandQuery extends BaseCommand {
           queryResponseMsg.sendHeader();
         }
 
-        if (sendResults && numberOfChunks == 0) {
+        if (sendResults && !resultsIterator.hasNext()) {
           // Send 1 empty chunk
           if (logger.isTraceEnabled()) {
             logger.trace("{}: Creating chunk: 0", servConn.getName());
@@ -208,12 +210,11 @@ public abstract class BaseCommandQuery extends BaseCommand {
           // from 7.0, if the object is in the form of serialized byte array,
           // send it as a part of ObjectPartList
           if (hasSerializedObjects) {
-            sendResultsAsObjectPartList(numberOfChunks, servConn, selectResults.asList(), isStructs,
-                collectionType, queryString, cqQuery, sendResults,
-                securityService);
+            sendResultsAsObjectPartList(servConn, resultsIterator, isStructs, collectionType,
+                queryString, cqQuery, sendResults, securityService);
           } else {
-            sendResultsAsObjectArray(selectResults, numberOfChunks, servConn, isStructs,
-                collectionType, queryString, cqQuery, sendResults);
+            sendResultsAsObjectArray(servConn, resultsIterator, isStructs, collectionType,
+                queryString, cqQuery, sendResults);
           }
         }
 
@@ -332,39 +333,36 @@ public abstract class BaseCommandQuery extends BaseCommand {
     }
   }
 
-  private void sendResultsAsObjectArray(SelectResults<?> selectResults, int numberOfChunks,
-      ServerConnection servConn, boolean isStructs,
-      CollectionType collectionType,
+  /**
+   * Sends the results in chunks taken directly from the results iterator rather than from a copy of
+   * the whole result set, so that lazily merged results (such as those of partitioned region
+   * queries) are only held once on the server, and each chunk is only built once the previous one
+   * has been written to the client.
+   */
+  private void sendResultsAsObjectArray(ServerConnection servConn, Iterator<?> resultsIterator,
+      boolean isStructs, CollectionType collectionType,
       String queryString, ServerCQ cqQuery,
       boolean sendResults)
       throws IOException {
     int resultIndex = 0;
-    // For CQ only as we dont want CQEntries which have null values.
-    int cqResultIndex = 0;
-    Object[] objs = selectResults.toArray();
-    for (int j = 0; j < numberOfChunks; j++) {
-      boolean incompleteArray = false;
+    int chunkIndex = 0;
+    do {
       if (logger.isTraceEnabled()) {
-        logger.trace("{}: Creating chunk: {}", servConn.getName(), j);
+        logger.trace("{}: Creating chunk: {}", servConn.getName(), chunkIndex);
       }
       Object[] results = new Object[MAXIMUM_CHUNK_SIZE];
-      for (int i = 0; i < MAXIMUM_CHUNK_SIZE; i++) {
-        if ((resultIndex) == objs.length) {
-          incompleteArray = true;
-          break;
-        }
+      int chunkSize = 0;
+      while (chunkSize < MAXIMUM_CHUNK_SIZE && resultsIterator.hasNext()) {
+        Object result = resultsIterator.next();
         if (logger.isTraceEnabled()) {
           logger.trace("{}: Adding entry [{}] to query results: {}", servConn.getName(),
-              resultIndex, objs[resultIndex]);
+              resultIndex, result);
         }
+        resultIndex++;
         if (cqQuery != null) {
-          CqEntry e = (CqEntry) objs[resultIndex];
+          CqEntry e = (CqEntry) result;
           // The value may have become null because of entry invalidation.
           if (e.getValue() == null) {
-            resultIndex++;
-            // i will get incremented anyway so we need to decrement it back so
-            // that results[i] is not null.
-            i--;
             continue;
           }
           // Add the key into CQ results cache.
@@ -377,76 +375,60 @@ public abstract class BaseCommandQuery extends BaseCommand {
           }
 
           // Add to the Results object array.
-          results[i] = e.getKeyValuePair();
+          results[chunkSize++] = e.getKeyValuePair();
         } else {
           // instance check added to fix bug 40516.
-          if (isStructs && (objs[resultIndex] instanceof Struct)) {
-            results[i] = ((Struct) objs[resultIndex]).getFieldValues();
+          if (isStructs && (result instanceof Struct)) {
+            results[chunkSize++] = ((Struct) result).getFieldValues();
           } else {
-            results[i] = objs[resultIndex];
+            results[chunkSize++] = result;
           }
         }
-        resultIndex++;
-        cqResultIndex++;
       }
       // Shrink array if necessary. This will occur if the number
       // of entries in the chunk does not divide evenly into the
       // number of entries in the result set.
-      if (incompleteArray) {
-        final Object[] newResults;
-        if (cqQuery == null) {
-          newResults = new Object[resultIndex % MAXIMUM_CHUNK_SIZE];
-        } else {
-          newResults = new Object[cqResultIndex % MAXIMUM_CHUNK_SIZE];
-        }
-        System.arraycopy(results, 0, newResults, 0, newResults.length);
-        results = newResults;
+      if (chunkSize < MAXIMUM_CHUNK_SIZE) {
+        results = Arrays.copyOf(results, chunkSize);
       }
+      chunkIndex++;
 
       if (sendResults) {
-        writeQueryResponseChunk(results, collectionType, (resultIndex == objs.length),
-            servConn);
+        writeQueryResponseChunk(results, collectionType, !resultsIterator.hasNext(), servConn);
 
         if (logger.isDebugEnabled()) {
-          logger.debug("{}: Sent chunk ({} of {}) of query response for query: {}",
-              servConn.getName(), (j + 1), numberOfChunks, queryString);
+          logger.debug("{}: Sent chunk {} of query response for query: {}",
+              servConn.getName(), chunkIndex, queryString);
         }
       }
-      // If we have reached the last element of SelectResults then we should
-      // break out of loop here only.
-      if (resultIndex == objs.length) {
-        break;
-      }
-    }
+    } while (resultsIterator.hasNext());
   }
 
-  private void sendResultsAsObjectPartList(int numberOfChunks, ServerConnection servConn,
-      List<?> objs,
+  private void sendResultsAsObjectPartList(ServerConnection servConn,
+      Iterator<?> resultsIterator,
       boolean isStructs, CollectionType collectionType,
       String queryString, ServerCQ cqQuery,
       boolean sendResults,
       final SecurityService securityService)
       throws IOException {
     int resultIndex = 0;
-    for (int j = 0; j < numberOfChunks; j++) {
+    int chunkIndex = 0;
+    do {
       if (logger.isTraceEnabled()) {
-        logger.trace("{}: Creating chunk: {}", servConn.getName(), j);
+        logger.trace("{}: Creating chunk: {}", servConn.getName(), chunkIndex);
       }
       ObjectPartList serializedObjs = new ObjectPartList(MAXIMUM_CHUNK_SIZE, false);
-      for (int i = 0; i < MAXIMUM_CHUNK_SIZE; i++) {
-        if ((resultIndex) == objs.size()) {
-          break;
-        }
+      for (int i = 0; i < MAXIMUM_CHUNK_SIZE && resultsIterator.hasNext(); i++) {
+        Object result = resultsIterator.next();
         if (logger.isTraceEnabled()) {
           logger.trace("{}: Adding entry [{}] to query results: {}", servConn.getName(),
-              resultIndex, objs.get(resultIndex));
+              resultIndex, result);
         }
-        Object result;
+        resultIndex++;
         if (cqQuery != null) {
-          CqEntry e = (CqEntry) objs.get(resultIndex);
+          CqEntry e = (CqEntry) result;
           // The value may have become null because of entry invalidation.
           if (e.getValue() == null) {
-            resultIndex++;
             continue;
           }
 
@@ -461,26 +443,24 @@ public abstract class BaseCommandQuery extends BaseCommand {
 
           // Add to the Results object array.
           result = e.getKeyValuePair();
-        } else {
-          result = objs.get(resultIndex);
         }
         if (sendResults) {
           addToObjectPartList(serializedObjs, result, isStructs,
               securityService);
         }
-        resultIndex++;
       }
+      chunkIndex++;
 
       if (sendResults) {
-        writeQueryResponseChunk(serializedObjs, collectionType, ((j + 1) == numberOfChunks),
+        writeQueryResponseChunk(serializedObjs, collectionType, !resultsIterator.hasNext(),
             servConn);
 
         if (logger.isDebugEnabled()) {
-          logger.debug("{}: Sent chunk ({} of {}) of query response for query: {}",
-              servConn.getName(), (j + 1), numberOfChunks, queryString);
+          logger.debug("{}: Sent chunk {} of query response for query: {}",
+              servConn.getName(), chunkIndex, queryString);
         }
       }
-    }
+    } while (resultsIterator.hasNext());
   }
 
   private void addToObjectPartList(ObjectPartList serializedObjs, Object res,
@@ -16,6 +16,7 @@ package org.apache.geode.internal.cache.tier.sockets;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
 import java.util.Arrays;
@@ -392,9 +393,10 @@ public class Part {
             if (buf.remaining() == 0) {
               HeapDataOutputStream.flushStream(out, buf);
             }
-            buf.put(AddressableMemoryManager.readByte(addr));
-            addr++;
-            bytesToSend--;
+            int bytesThisTime = Math.min(bytesToSend, buf.remaining());
+            copyToBuffer(addr, bytesThisTime, buf);
+            addr += bytesThisTime;
+            bytesToSend -= bytesThisTime;
           }
         }
       } else {
@@ -424,11 +426,7 @@ public class Part {
         } else {
           int bytesToSend = c.getDataSize();
           long addr = c.getAddressForReadingData(0, bytesToSend);
-          while (bytesToSend > 0) {
-            buf.put(AddressableMemoryManager.readByte(addr));
-            addr++;
-            bytesToSend--;
-          }
+          copyToBuffer(addr, bytesToSend, buf);
         }
       } else {
         HeapDataOutputStream hdos = (HeapDataOutputStream) part;
@@ -487,11 +485,8 @@ public class Part {
               bytesThisTime = BUF_MAX;
             }
             len -= bytesThisTime;
-            while (bytesThisTime > 0) {
-              buf.put(AddressableMemoryManager.readByte(addr));
-              addr++;
-              bytesThisTime--;
-            }
+            copyToBuffer(addr, bytesThisTime, buf);
+            addr += bytesThisTime;
             buf.flip();
             while (buf.remaining() > 0) {
               sc.write(buf);
@@ -510,6 +505,31 @@ public class Part {
     }
   }
 
+  /**
+   * Copies the given number of bytes of off-heap memory starting at addr into buf with one bulk
+   * copy instead of one byte at a time. Precondition: buf has room for all the bytes.
+   */
+  private static void copyToBuffer(long addr, int size, ByteBuffer buf) {
+    if (size > buf.remaining()) {
+      throw new BufferOverflowException();
+    }
+    final int position = buf.position();
+    if (buf.hasArray()) {
+      AddressableMemoryManager.readBytes(addr, buf.array(), buf.arrayOffset() + position, size);
+      buf.position(position + size);
+      return;
+    }
+    final long bufAddr = AddressableMemoryManager.getDirectByteBufferAddress(buf);
+    if (bufAddr != 0L) {
+      AddressableMemoryManager.copyMemory(addr, bufAddr + position, size);
+      buf.position(position + size);
+      return;
+    }
+    for (int i = 0; i < size; i++) {
+      buf.put(AddressableMemoryManager.readByte(addr + i));
+    }
+  }
+
   private static String typeCodeToString(byte c) {
     switch (c) {
       case BYTE_CODE:
@@ -1318,6 +1318,8 @@ public class ServerConnection implements Runnable {
       try {
         stats.decThreadQueueSize();
         if (!isTerminated()) {
+          // the selector thread only cancels our key, switch back to blocking mode here
+          makeBlocking();
           getAcceptor().setTLCommBuffer();
           doOneMessage();
           if (processMessages && !crHelper.isShutdown()) {
@@ -17,6 +17,7 @@ package org.apache.geode.internal.lang;
 import static org.apache.geode.internal.lang.SystemProperty.getProductBooleanProperty;
 
 import org.apache.geode.internal.cache.eviction.LRUListWithAsyncSorting;
+import org.apache.geode.internal.cache.eviction.StripedLRUList;
 
 /**
  * The SystemPropertyHelper class is an helper class for accessing system properties used in geode.
@@ -56,6 +57,14 @@ public class SystemPropertyHelper {
 
   public static final String EVICTION_SEARCH_MAX_ENTRIES = "lru.maxSearchEntries";
 
+  /**
+   * This property allows the LRU eviction list to be split into the given number of independently
+   * locked segments to reduce contention when many threads create or destroy entries concurrently.
+   * Values less than 2 (the default) use a single list. For more details see
+   * {@link StripedLRUList}.
+   */
+  public static final String EVICTION_LIST_SEGMENTS = "EvictionListSegments";
+
   public static final String EARLY_ENTRY_EVENT_SERIALIZATION = "earlyEntryEventSerialization";
 
   public static final String DEFAULT_DISK_DIRS_PROPERTY = "defaultDiskDirs";
@@ -21,6 +21,7 @@ import static org.apache.geode.internal.lang.SystemProperty.GEMFIRE_PREFIX;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.RejectedExecutionHandler;
@@ -38,11 +39,13 @@ import org.apache.geode.distributed.internal.PooledExecutorWithDMStats;
 import org.apache.geode.distributed.internal.QueueStatHelper;
 import org.apache.geode.distributed.internal.SerialQueuedExecutorWithDMStats;
 import org.apache.geode.internal.ScheduledThreadPoolExecutorWithKeepAlive;
+import org.apache.geode.internal.lang.SystemProperty;
 import org.apache.geode.internal.monitoring.ThreadsMonitoring;
 import org.apache.geode.logging.internal.executors.LoggingExecutors;
 import org.apache.geode.logging.internal.executors.LoggingThreadFactory;
 import org.apache.geode.logging.internal.executors.LoggingThreadFactory.CommandWrapper;
 import org.apache.geode.logging.internal.executors.LoggingThreadFactory.ThreadInitializer;
+import org.apache.geode.logging.internal.executors.LoggingUncaughtExceptionHandler;
 
 /**
  * Utility class that creates instances of ExecutorService whose threads will always log uncaught
@@ -53,6 +56,14 @@ public class CoreLoggingExecutors {
   private static final String IDLE_THREAD_TIMEOUT_MILLIS_PROPERTY = "IDLE_THREAD_TIMEOUT";
   private static final int DEFAULT_IDLE_THREAD_TIMEOUT_MILLIS = 30_000 * 60;
 
+  /**
+   * If true, thread-per-task pools that spend most of their time blocked in I/O (server
+   * connections, unshared P2P readers and function execution) use virtual threads when the JVM
+   * supports them. Ignored on JVMs without virtual threads.
+   */
+  @VisibleForTesting
+  static final String USE_VIRTUAL_THREADS_PROPERTY = "USE_VIRTUAL_THREADS";
+
   public static ExecutorService newFixedThreadPoolWithTimeout(int poolSize, long keepAliveTime,
       TimeUnit unit, QueueStatHelper queueStatHelper, String threadName) {
     BlockingQueue<Runnable> workQueue = createWorkQueueWithStatistics(0, queueStatHelper);
@@ -66,8 +77,9 @@ public class CoreLoggingExecutors {
       PoolStatHelper poolStatHelper, ThreadsMonitoring threadsMonitoring) {
     BlockingQueue<Runnable> workQueue =
         createWorkQueueWithStatistics(workQueueSize, queueStatHelper);
-    ThreadFactory threadFactory =
-        new LoggingThreadFactory(threadName, threadInitializer, commandWrapper);
+    ThreadFactory threadFactory = useVirtualThreads()
+        ? newVirtualThreadFactory(threadName, threadInitializer, commandWrapper)
+        : new LoggingThreadFactory(threadName, threadInitializer, commandWrapper);
     return new FunctionExecutionPooledExecutor(poolSize, workQueue, threadFactory, poolStatHelper,
         threadsMonitoring);
   }
@@ -198,6 +210,104 @@ public class CoreLoggingExecutors {
         poolStatHelper, threadsMonitoring);
   }
 
+  /**
+   * Returns true if virtual threads have been requested with the {@code geode.USE_VIRTUAL_THREADS}
+   * system property and the JVM supports them.
+   */
+  public static boolean useVirtualThreads() {
+    return SystemProperty.getProductBooleanProperty(USE_VIRTUAL_THREADS_PROPERTY).orElse(false)
+        && isVirtualThreadSupported();
+  }
+
+  /**
+   * Returns true if the JVM supports virtual threads. JVMs where they are still a preview feature
+   * that has not been enabled are reported as not supporting them.
+   */
+  public static boolean isVirtualThreadSupported() {
+    try {
+      Thread.class.getMethod("ofVirtual").invoke(null);
+      return true;
+    } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Creates an executor that starts a new virtual thread for each task. Threads log uncaught
+   * exceptions and are named with the given base name followed by a counter.
+   *
+   * @throws UnsupportedOperationException if the JVM does not support virtual threads
+   */
+  public static ExecutorService newVirtualThreadPerTaskExecutor(String threadName,
+      ThreadInitializer threadInitializer, CommandWrapper commandWrapper) {
+    ThreadFactory threadFactory =
+        newVirtualThreadFactory(threadName, threadInitializer, commandWrapper);
+    try {
+      return (ExecutorService) Executors.class
+          .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+          .invoke(null, threadFactory);
+    } catch (ReflectiveOperationException e) {
+      throw new UnsupportedOperationException("Virtual threads are not supported by this JVM", e);
+    }
+  }
+
+  /**
+   * Creates a pool of at most {@code poolSize} virtual threads fed by a synchronous queue. Unlike
+   * {@link #newVirtualThreadPerTaskExecutor} the pool records {@code poolStatHelper} statistics
+   * and registers its tasks with {@code threadsMonitoring}. Idle threads are not kept alive since
+   * virtual threads are cheap to start. A task submitted while all threads are busy is rejected
+   * with a {@link RejectedExecutionException}, as with the platform thread
+   * pool, so that callers can refuse the work instead of queueing it.
+   *
+   * @throws UnsupportedOperationException if the JVM does not support virtual threads
+   */
+  public static ExecutorService newVirtualThreadPoolWithSynchronousFeed(int poolSize,
+      String threadName, ThreadInitializer threadInitializer, CommandWrapper commandWrapper,
+      PoolStatHelper poolStatHelper, ThreadsMonitoring threadsMonitoring) {
+    ThreadFactory threadFactory =
+        newVirtualThreadFactory(threadName, threadInitializer, commandWrapper);
+    return new PooledExecutorWithDMStats(poolSize, 0L, MILLISECONDS, new SynchronousQueue<>(),
+        threadFactory, new ThreadPoolExecutor.AbortPolicy(), poolStatHelper, threadsMonitoring);
+  }
+
+  /**
+   * Creates a factory of virtual threads that log uncaught exceptions and are named with the given
+   * base name followed by a counter. Virtual threads are looked up reflectively since Geode still
+   * compiles for JVMs that do not have them.
+   *
+   * @throws UnsupportedOperationException if the JVM does not support virtual threads
+   */
+  @VisibleForTesting
+  static ThreadFactory newVirtualThreadFactory(String threadName,
+      ThreadInitializer threadInitializer, CommandWrapper commandWrapper) {
+    ThreadFactory virtualThreadFactory;
+    try {
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      builder = builderClass.getMethod("name", String.class, long.class)
+          .invoke(builder, threadName, 1L);
+      builder = builderClass.getMethod("uncaughtExceptionHandler",
+          Thread.UncaughtExceptionHandler.class)
+          .invoke(builder, LoggingUncaughtExceptionHandler.getInstance());
+      virtualThreadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    } catch (ReflectiveOperationException e) {
+      throw new UnsupportedOperationException("Virtual threads are not supported by this JVM", e);
+    }
+    return runnable -> {
+      Runnable commandToRun;
+      if (commandWrapper != null) {
+        commandToRun = () -> commandWrapper.invoke(runnable);
+      } else {
+        commandToRun = runnable;
+      }
+      Thread thread = virtualThreadFactory.newThread(commandToRun);
+      if (threadInitializer != null) {
+        threadInitializer.initialize(thread);
+      }
+      return thread;
+    };
+  }
+
   private CoreLoggingExecutors() {
     // no instances allowed
   }
@@ -181,6 +181,8 @@ public class AddressableMemoryManager {
   @MakeNotStatic
   private static volatile Constructor dbbCtor = null;
   @MakeNotStatic
+  private static volatile boolean dbbCtorHasLongCapacity = false;
+  @MakeNotStatic
   private static volatile boolean dbbCreateFailed = false;
   @MakeNotStatic
   private static volatile Method dbbAddressMethod = null;
@@ -221,7 +223,14 @@ public class AddressableMemoryManager {
         dbbAddressFailed = true;
         return 0L;
       }
-      m.setAccessible(true);
+      try {
+        m.setAccessible(true);
+      } catch (RuntimeException e) {
+        // java.nio is not open to us
+        dbbClass = null;
+        dbbAddressFailed = true;
+        return 0L;
+      }
       dbbAddressMethod = m;
     }
     try {
@@ -261,19 +270,41 @@ public class AddressableMemoryManager {
         }
         dbbClass = c;
       }
+      boolean hasLongCapacity = false;
       try {
         ctor = c.getDeclaredConstructor(long.class, int.class);
-      } catch (NoSuchMethodException | SecurityException e) {
+      } catch (NoSuchMethodException e) {
+        // newer JDKs declare the capacity as a long
+        try {
+          ctor = c.getDeclaredConstructor(long.class, long.class);
+          hasLongCapacity = true;
+        } catch (NoSuchMethodException | SecurityException e2) {
+          dbbClass = null;
+          dbbCreateFailed = true;
+          return null;
+        }
+      } catch (SecurityException e) {
         // throw new IllegalStateException("Could not get constructor DirectByteBuffer(long, int)",
         // e);
         dbbClass = null;
         dbbCreateFailed = true;
         return null;
       }
-      ctor.setAccessible(true);
+      try {
+        ctor.setAccessible(true);
+      } catch (RuntimeException e) {
+        // java.nio is not open to us so fall back to copying
+        dbbClass = null;
+        dbbCreateFailed = true;
+        return null;
+      }
+      dbbCtorHasLongCapacity = hasLongCapacity;
       dbbCtor = ctor;
     }
     try {
+      if (dbbCtorHasLongCapacity) {
+        return (ByteBuffer) ctor.newInstance(address, (long) size);
+      }
       return (ByteBuffer) ctor.newInstance(address, size);
     } catch (InstantiationException | IllegalAccessException | IllegalArgumentException
         | InvocationTargetException e) {
@@ -20,8 +20,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReferenceArray;
@@ -53,6 +56,37 @@ public class FreeListManager {
       new ConcurrentSkipListSet<>();
   private final AtomicLong allocatedSize = new AtomicLong(0L);
 
+  /**
+   * The number of tiny size classes, starting at the smallest, that are cached per thread. Zero if
+   * thread caches are disabled.
+   */
+  private final int threadCacheSizeClasses;
+  private final int threadCacheSize;
+  private final Set<TinyChunkThreadCache> threadCaches = ConcurrentHashMap.newKeySet();
+  private final ThreadLocal<TinyChunkThreadCache> threadCache =
+      ThreadLocal.withInitial(this::createThreadCache);
+
+  /**
+   * How often, at most, an allocation that found no free tiny chunk looks for caches of
+   * terminated threads whose chunks can be returned to the shared free lists.
+   */
+  private static final long DEAD_THREAD_CACHE_CHECK_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+  private final AtomicLong lastDeadThreadCacheCheck = new AtomicLong(System.nanoTime());
+
+  /**
+   * The most background defragmentation calls that are skipped after a background defragmentation
+   * that did not make the largest free chunk any larger.
+   */
+  static final int MAX_BACKGROUND_DEFRAGMENTATION_BACKOFF = 64;
+
+  /**
+   * The number of calls of {@link #defragmentIfFragmented(int)} that are still to be skipped, and
+   * the number that were skipped after the last unproductive defragmentation. Only used by the
+   * background defragmentation thread.
+   */
+  private int backgroundDefragmentationSkips;
+  private int backgroundDefragmentationBackoff;
+
   private int getNearestTinyMultiple(int size) {
     return (size - 1) / TINY_MULTIPLE;
   }
@@ -122,6 +156,9 @@ public class FreeListManager {
         tinyFree += cl.computeTotalSize();
       }
     }
+    for (TinyChunkThreadCache cache : threadCaches) {
+      tinyFree += cache.getChunkBytes();
+    }
     return tinyFree;
   }
 
@@ -141,8 +178,15 @@ public class FreeListManager {
   private final MemoryAllocatorImpl ma;
 
   public FreeListManager(MemoryAllocatorImpl ma, final Slab[] slabs) {
+    this(ma, slabs, THREAD_CACHE_SIZE);
+  }
+
+  FreeListManager(MemoryAllocatorImpl ma, final Slab[] slabs, int threadCacheSize) {
     this.ma = ma;
     this.slabs = slabs;
+    this.threadCacheSize = threadCacheSize;
+    threadCacheSizeClasses =
+        threadCacheSize > 0 ? getNearestTinyMultiple(THREAD_CACHE_MAX_CHUNK_SIZE) + 1 : 0;
     long total = 0;
     Fragment[] tmp = new Fragment[slabs.length];
     for (int i = 0; i < slabs.length; i++) {
@@ -269,6 +313,7 @@ public class FreeListManager {
   }
 
   private void logTinyState(Logger lw) {
+    flushThreadCaches();
     for (int i = 0; i < tinyFreeLists.length(); i++) {
       OffHeapStoredObjectAddressStack cl = tinyFreeLists.get(i);
       if (cl != null) {
@@ -315,6 +360,15 @@ public class FreeListManager {
   static {
     verifyOffHeapFreeListCount(TINY_FREE_LIST_COUNT);
   }
+  /**
+   * Number of free chunks of each tiny size that each thread may keep for its own allocations. A
+   * freed chunk goes to the freeing thread's cache and is handed out again by that thread without
+   * touching the shared tiny free lists. When a cache is full, or empty, half of its capacity is
+   * moved to, or from, the shared free list in one batch. Zero, the default, disables thread
+   * caches.
+   */
+  public static final int THREAD_CACHE_SIZE =
+      Integer.getInteger(GeodeGlossary.GEMFIRE_PREFIX + "OFF_HEAP_THREAD_CACHE_SIZE", 0);
   /**
    * How many unused bytes are allowed in a huge memory allocation.
    */
@@ -323,6 +377,11 @@ public class FreeListManager {
     verifyHugeMultiple(HUGE_MULTIPLE);
   }
   public static final int MAX_TINY = TINY_MULTIPLE * TINY_FREE_LIST_COUNT;
+  /**
+   * The largest chunk size, including the off-heap header, that is kept in thread caches.
+   */
+  public static final int THREAD_CACHE_MAX_CHUNK_SIZE = Math.min(MAX_TINY, Integer
+      .getInteger(GeodeGlossary.GEMFIRE_PREFIX + "OFF_HEAP_THREAD_CACHE_MAX_CHUNK_SIZE", 1024));
 
   /**
    * Return true if the two chunks have been combined into one. If low and high are adjacent to each
@@ -386,6 +445,67 @@ public class FreeListManager {
     }
   }
 
+  /**
+   * Defragments memory if it has become fragmented, see {@link #isFragmented(int)}. This is called
+   * periodically by a background thread so that allocating threads seldom find the fragments
+   * exhausted and have to defragment themselves. Returns true if memory was defragmented.
+   * <p>
+   * A defragmentation that does not make the largest free chunk any larger, because the free
+   * chunks are not next to each other, would most likely not do better on the next call either. So
+   * after each such defragmentation the following calls are skipped, twice as many as the last
+   * time, up to {@link #MAX_BACKGROUND_DEFRAGMENTATION_BACKOFF}.
+   */
+  boolean defragmentIfFragmented(int thresholdPercent) {
+    if (backgroundDefragmentationSkips > 0) {
+      backgroundDefragmentationSkips--;
+      return false;
+    }
+    if (!isFragmented(thresholdPercent)) {
+      return false;
+    }
+    ma.getStats().incBackgroundDefragmentations();
+    int largestFreeChunkBefore = largestFreeChunkSize();
+    defragment(0);
+    if (largestFragmentSize() > largestFreeChunkBefore) {
+      backgroundDefragmentationBackoff = 0;
+    } else {
+      backgroundDefragmentationBackoff = Math.min(MAX_BACKGROUND_DEFRAGMENTATION_BACKOFF,
+          Math.max(1, backgroundDefragmentationBackoff * 2));
+      backgroundDefragmentationSkips = backgroundDefragmentationBackoff;
+    }
+    return true;
+  }
+
+  /**
+   * Returns the size of the largest free chunk, whether it is in a fragment or a free list.
+   */
+  private int largestFreeChunkSize() {
+    int result = largestFragmentSize();
+    OffHeapStoredObject largestHuge = hugeChunkSet.isEmpty() ? null : hugeChunkSet.last();
+    if (largestHuge != null) {
+      return Math.max(result, largestHuge.getSize());
+    }
+    for (int idx = tinyFreeLists.length() - 1; idx >= 0; idx--) {
+      OffHeapStoredObjectAddressStack clq = tinyFreeLists.get(idx);
+      if (clq != null && !clq.isEmpty()) {
+        return Math.max(result, (idx + 1) * TINY_MULTIPLE);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns true if less than {@code thresholdPercent} of the total memory is left in fragments,
+   * where it can be allocated in any size, and more free memory than that is held in the free
+   * lists.
+   */
+  boolean isFragmented(int thresholdPercent) {
+    long fragmentFree = getFreeFragmentMemory();
+    long freeListFree = getFreeMemory() - fragmentFree;
+    return fragmentFree * 100 < getTotalMemory() * thresholdPercent
+        && freeListFree > fragmentFree;
+  }
+
   /**
    * Simple interface the represents a "stack" of primitive longs. Currently this interface only
    * allows supports poll but more could be added if needed in the future. This interface was
@@ -532,7 +652,7 @@ public class FreeListManager {
 
   public int getFreedChunks() {
     int elementCountFromTinyFreeLists =
-        getElementCountFromTinyFreeLists();
+        getElementCountFromTinyFreeLists() + getElementCountFromThreadCaches();
     int elementCountFromHugeFreeLists =
         getElementCountFromHugeFreeLists();
 
@@ -550,6 +670,14 @@ public class FreeListManager {
     return fragmentCount;
   }
 
+  private int getElementCountFromThreadCaches() {
+    int count = 0;
+    for (TinyChunkThreadCache cache : threadCaches) {
+      count += cache.getChunkCount();
+    }
+    return count;
+  }
+
   private int getElementCountFromHugeFreeLists() {
     return hugeChunkSet.size();
   }
@@ -667,6 +795,7 @@ public class FreeListManager {
   }
 
   private void collectFreeTinyChunks(List<LongStack> l) {
+    flushThreadCaches();
     for (int i = 0; i < tinyFreeLists.length(); i++) {
       OffHeapStoredObjectAddressStack cl = tinyFreeLists.get(i);
       if (cl != null) {
@@ -744,8 +873,117 @@ public class FreeListManager {
   }
 
   private OffHeapStoredObject allocateTiny(int size, boolean useFragments) {
-    return basicAllocate(getNearestTinyMultiple(size), TINY_MULTIPLE, 0, tinyFreeLists,
-        useFragments);
+    int idx = getNearestTinyMultiple(size);
+    if (idx < threadCacheSizeClasses) {
+      OffHeapStoredObject result = allocateFromThreadCache(idx);
+      if (result != null) {
+        return result;
+      }
+    }
+    return basicAllocate(idx, TINY_MULTIPLE, 0, tinyFreeLists, useFragments);
+  }
+
+  /**
+   * Allocates a chunk from the current thread's cache. If the cache has no chunk of this size then
+   * it is first refilled with a batch from the shared tiny free list, after returning the chunks
+   * cached by terminated threads to that list if it is empty. Returns null if all are empty.
+   */
+  private OffHeapStoredObject allocateFromThreadCache(int idx) {
+    TinyChunkThreadCache cache = threadCache.get();
+    long memAddr = cache.poll(idx);
+    if (memAddr == 0L) {
+      long chain = pollChainFromTinyFreeList(idx);
+      if (chain == 0L && flushDeadThreadCaches()) {
+        chain = pollChainFromTinyFreeList(idx);
+      }
+      if (chain == 0L) {
+        return null;
+      }
+      memAddr = chain;
+      long rest = OffHeapStoredObject.getNext(chain);
+      if (rest != 0L) {
+        cache.offerChain(idx, rest);
+      }
+    }
+    ma.getStats().incThreadCacheAllocations();
+    OffHeapStoredObject result = new OffHeapStoredObject(memAddr);
+    checkDataIntegrity(result);
+    result.readyForAllocation();
+    return result;
+  }
+
+  private long pollChainFromTinyFreeList(int idx) {
+    OffHeapStoredObjectAddressStack clq = tinyFreeLists.get(idx);
+    if (clq == null) {
+      return 0L;
+    }
+    return clq.pollChain(getThreadCacheBatchSize());
+  }
+
+  private int getThreadCacheBatchSize() {
+    return Math.max(1, threadCacheSize / 2);
+  }
+
+  private TinyChunkThreadCache createThreadCache() {
+    TinyChunkThreadCache cache =
+        new TinyChunkThreadCache(Thread.currentThread(), threadCacheSizeClasses, threadCacheSize);
+    threadCaches.add(cache);
+    return cache;
+  }
+
+  /**
+   * Moves every chunk held in a thread cache back to the shared tiny free lists and forgets the
+   * caches of threads that have terminated.
+   */
+  void flushThreadCaches() {
+    for (TinyChunkThreadCache cache : threadCaches) {
+      boolean ownerAlive = cache.isOwnerAlive();
+      flushThreadCache(cache);
+      if (!ownerAlive) {
+        threadCaches.remove(cache);
+      }
+    }
+  }
+
+  /**
+   * Moves the chunks held in the caches of threads that have terminated back to the shared tiny
+   * free lists and forgets those caches. Does nothing if this was already done less than
+   * {@link #getDeadThreadCacheCheckIntervalNanos()} ago, so that allocations that keep missing
+   * the free lists do not keep scanning every cache.
+   *
+   * @return true if any chunks were moved
+   */
+  boolean flushDeadThreadCaches() {
+    long now = System.nanoTime();
+    long lastCheck = lastDeadThreadCacheCheck.get();
+    if (now - lastCheck < getDeadThreadCacheCheckIntervalNanos()
+        || !lastDeadThreadCacheCheck.compareAndSet(lastCheck, now)) {
+      return false;
+    }
+    boolean flushed = false;
+    for (TinyChunkThreadCache cache : threadCaches) {
+      if (!cache.isOwnerAlive()) {
+        flushed |= flushThreadCache(cache);
+        threadCaches.remove(cache);
+      }
+    }
+    return flushed;
+  }
+
+  protected long getDeadThreadCacheCheckIntervalNanos() {
+    return DEAD_THREAD_CACHE_CHECK_INTERVAL_NANOS;
+  }
+
+  private boolean flushThreadCache(TinyChunkThreadCache cache) {
+    boolean flushed = false;
+    for (int idx = 0; idx < cache.getSizeClassCount(); idx++) {
+      long chain = cache.pollChain(idx, Integer.MAX_VALUE);
+      if (chain != 0L) {
+        getOrCreateFreeList(idx, tinyFreeLists).offerChain(chain);
+        flushed = true;
+      }
+    }
+    return flushed;
   }
 
   private OffHeapStoredObject basicAllocate(int idx, int multiple, int offset,
@@ -842,7 +1080,31 @@ public class FreeListManager {
   }
 
   private void freeTiny(long addr, int cSize) {
-    basicFree(addr, getNearestTinyMultiple(cSize), tinyFreeLists);
+    int idx = getNearestTinyMultiple(cSize);
+    if (idx < threadCacheSizeClasses) {
+      freeToThreadCache(addr, idx);
+    } else {
+      basicFree(addr, idx, tinyFreeLists);
+    }
+  }
+
+  /**
+   * Frees a chunk to the current thread's cache. If the cache already holds as many chunks of this
+   * size as it may then a batch of them is first returned to the shared tiny free list.
+   */
+  private void freeToThreadCache(long addr, int idx) {
+    TinyChunkThreadCache cache = threadCache.get();
+    if (cache.offer(idx, addr)) {
+      return;
+    }
+    long chain = cache.pollChain(idx, getThreadCacheBatchSize());
+    if (chain != 0L) {
+      getOrCreateFreeList(idx, tinyFreeLists).offerChain(chain);
+      ma.getStats().incThreadCacheFlushes();
+    }
+    if (!cache.offer(idx, addr)) {
+      basicFree(addr, idx, tinyFreeLists);
+    }
   }
 
   private void basicFree(long addr, int idx,
@@ -860,6 +1122,18 @@ public class FreeListManager {
     }
   }
 
+  private OffHeapStoredObjectAddressStack getOrCreateFreeList(int idx,
+      AtomicReferenceArray<OffHeapStoredObjectAddressStack> freeLists) {
+    OffHeapStoredObjectAddressStack clq = freeLists.get(idx);
+    if (clq == null) {
+      clq = createFreeListForEmptySlot(freeLists, idx);
+      if (!freeLists.compareAndSet(idx, null, clq)) {
+        clq = freeLists.get(idx);
+      }
+    }
+    return clq;
+  }
+
   /**
    * Tests override this method to simulate concurrent modification
    */
@@ -901,6 +1175,7 @@ public class FreeListManager {
   }
 
   private List<MemoryBlock> getTinyFreeBlocks() {
+    flushThreadCaches();
     final List<MemoryBlock> value = new ArrayList<>();
     final MemoryAllocatorImpl sma = ma;
     for (int i = 0; i < tinyFreeLists.length(); i++) {
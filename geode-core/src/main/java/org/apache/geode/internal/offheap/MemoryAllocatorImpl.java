@@ -36,6 +36,7 @@ import org.apache.geode.internal.cache.InternalRegion;
 import org.apache.geode.internal.cache.PartitionedRegion;
 import org.apache.geode.internal.cache.PartitionedRegionDataStore;
 import org.apache.geode.internal.cache.RegionEntry;
+import org.apache.geode.internal.cache.entries.OffHeapRegionEntry;
 import org.apache.geode.internal.lang.SystemProperty;
 import org.apache.geode.internal.offheap.annotations.OffHeapIdentifier;
 import org.apache.geode.internal.offheap.annotations.Unretained;
@@ -64,10 +65,28 @@ public class MemoryAllocatorImpl implements MemoryAllocator {
       SystemProperty.getProductIntegerProperty(
           "off-heap-stats-update-frequency-ms").orElse(3600000);
 
+  /**
+   * How often, in milliseconds, a background thread checks whether off-heap memory is fragmented
+   * and defragments it ahead of demand. Zero, the default, disables background defragmentation.
+   */
+  public static final int BACKGROUND_DEFRAGMENTATION_INTERVAL_MS =
+      SystemProperty.getProductIntegerProperty(
+          "off-heap-background-defragmentation-interval-ms").orElse(0);
+
+  /**
+   * Background defragmentation is done when less than this percentage of the off-heap memory is
+   * left in fragments and more free memory than that is held in free lists.
+   */
+  public static final int BACKGROUND_DEFRAGMENTATION_THRESHOLD_PERCENT =
+      SystemProperty.getProductIntegerProperty(
+          "off-heap-background-defragmentation-threshold-percent").orElse(10);
+
   private final ScheduledExecutorService updateNonRealTimeStatsExecutor;
 
   private final ScheduledFuture<?> updateNonRealTimeStatsFuture;
 
+  private final ScheduledFuture<?> backgroundDefragmentationFuture;
+
   private volatile OffHeapMemoryStats stats;
 
   private volatile OutOfOffHeapMemoryListener ooohml;
@@ -244,6 +263,22 @@ public class MemoryAllocatorImpl implements MemoryAllocator {
     updateNonRealTimeStatsFuture =
         updateNonRealTimeStatsExecutor.scheduleAtFixedRate(freeList::updateNonRealTimeStats, 0,
             updateOffHeapStatsFrequencyMs, TimeUnit.MILLISECONDS);
+    if (BACKGROUND_DEFRAGMENTATION_INTERVAL_MS > 0) {
+      backgroundDefragmentationFuture =
+          updateNonRealTimeStatsExecutor.scheduleWithFixedDelay(this::defragmentInBackground,
+              BACKGROUND_DEFRAGMENTATION_INTERVAL_MS, BACKGROUND_DEFRAGMENTATION_INTERVAL_MS,
+              TimeUnit.MILLISECONDS);
+    } else {
+      backgroundDefragmentationFuture = null;
+    }
+  }
+
+  private void defragmentInBackground() {
+    try {
+      freeList.defragmentIfFragmented(BACKGROUND_DEFRAGMENTATION_THRESHOLD_PERCENT);
+    } catch (RuntimeException e) {
+      logger.warn("Background defragmentation of off-heap memory failed", e);
+    }
   }
 
   public List<OffHeapStoredObject> getLostChunks(InternalCache cache) {
@@ -307,6 +342,12 @@ public class MemoryAllocatorImpl implements MemoryAllocator {
         if (value instanceof OffHeapStoredObject) {
           result.add((OffHeapStoredObject) value);
         }
+        if (re instanceof OffHeapRegionEntry) {
+          long keyAddress = ((OffHeapRegionEntry) re).getKeyAddress();
+          if (keyAddress != 0L) {
+            result.add(new OffHeapStoredObject(keyAddress));
+          }
+        }
       }
     }
   }
@@ -408,6 +449,9 @@ public class MemoryAllocatorImpl implements MemoryAllocator {
       freeList.freeSlabs();
       stats.close();
       updateNonRealTimeStatsFuture.cancel(true);
+      if (backgroundDefragmentationFuture != null) {
+        backgroundDefragmentationFuture.cancel(true);
+      }
       updateNonRealTimeStatsExecutor.shutdown();
       singleton = null;
     }
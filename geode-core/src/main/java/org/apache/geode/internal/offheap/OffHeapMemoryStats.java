@@ -41,10 +41,16 @@ public interface OffHeapMemoryStats {
 
   void endDefragmentation(long start);
 
+  void incBackgroundDefragmentations();
+
   void setFragmentation(int value);
 
   void setFreedChunks(long value);
 
+  void incThreadCacheAllocations();
+
+  void incThreadCacheFlushes();
+
   long getFreeMemory();
 
   long getMaxMemory();
@@ -59,6 +65,8 @@ public interface OffHeapMemoryStats {
 
   int getDefragmentationsInProgress();
 
+  int getBackgroundDefragmentations();
+
   long getFragments();
 
   long getFreedChunks();
@@ -69,6 +77,10 @@ public interface OffHeapMemoryStats {
 
   long getDefragmentationTime();
 
+  long getThreadCacheAllocations();
+
+  long getThreadCacheFlushes();
+
   Statistics getStats();
 
   void close();
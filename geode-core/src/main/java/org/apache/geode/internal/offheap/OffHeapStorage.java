@@ -62,6 +62,9 @@ public class OffHeapStorage implements OffHeapMemoryStats {
   private static final int fragmentationId;
   private static final int defragmentationsInProgressId;
   private static final int freedChunksId;
+  private static final int threadCacheAllocationsId;
+  private static final int threadCacheFlushesId;
+  private static final int backgroundDefragmentationsId;
   // NOTE!!!! When adding new stats make sure and update the initialize method on this class
 
   // creates and registers the statistics type
@@ -88,6 +91,12 @@ public class OffHeapStorage implements OffHeapMemoryStats {
     final String objectsDesc = "The number of objects stored in off-heap memory.";
     final String readsDesc =
         "The total number of reads of off-heap memory. Only reads of a full object increment this statistic. If only a part of the object is read this statistic is not incremented.";
+    final String backgroundDefragmentationsDesc =
+        "The total number of times off-heap memory has been defragmented by the background thread because it was fragmented.";
+    final String threadCacheAllocationsDesc =
+        "The total number of off-heap allocations served from a free chunk cached by the allocating thread.";
+    final String threadCacheFlushesDesc =
+        "The total number of times a thread returned a batch of cached free chunks to the shared off-heap free lists because its cache was full.";
     final String maxMemoryDesc =
         "The maximum amount of off-heap memory, in bytes. This is the amount of memory allocated at startup and does not change.";
 
@@ -103,6 +112,9 @@ public class OffHeapStorage implements OffHeapMemoryStats {
     final String objects = "objects";
     final String reads = "reads";
     final String maxMemory = "maxMemory";
+    final String threadCacheAllocations = "threadCacheAllocations";
+    final String threadCacheFlushes = "threadCacheFlushes";
+    final String backgroundDefragmentations = "backgroundDefragmentations";
 
     statsType = f.createType(statsTypeName, statsTypeDescription,
         new StatisticDescriptor[] {f.createLongGauge(usedMemory, usedMemoryDesc, "bytes"),
@@ -117,7 +129,11 @@ public class OffHeapStorage implements OffHeapMemoryStats {
             f.createIntGauge(largestFragment, largestFragmentDesc, "bytes"),
             f.createIntGauge(objects, objectsDesc, "objects"),
             f.createLongCounter(reads, readsDesc, "operations"),
-            f.createLongGauge(maxMemory, maxMemoryDesc, "bytes"),});
+            f.createLongGauge(maxMemory, maxMemoryDesc, "bytes"),
+            f.createLongCounter(threadCacheAllocations, threadCacheAllocationsDesc, "operations"),
+            f.createLongCounter(threadCacheFlushes, threadCacheFlushesDesc, "operations"),
+            f.createIntCounter(backgroundDefragmentations, backgroundDefragmentationsDesc,
+                "operations"),});
 
     usedMemoryId = statsType.nameToId(usedMemory);
     defragmentationId = statsType.nameToId(defragmentations);
@@ -131,6 +147,9 @@ public class OffHeapStorage implements OffHeapMemoryStats {
     objectsId = statsType.nameToId(objects);
     readsId = statsType.nameToId(reads);
     maxMemoryId = statsType.nameToId(maxMemory);
+    threadCacheAllocationsId = statsType.nameToId(threadCacheAllocations);
+    threadCacheFlushesId = statsType.nameToId(threadCacheFlushes);
+    backgroundDefragmentationsId = statsType.nameToId(backgroundDefragmentations);
   }
 
   public static long parseOffHeapMemorySize(String value) {
@@ -394,6 +413,16 @@ public class OffHeapStorage implements OffHeapMemoryStats {
     }
   }
 
+  @Override
+  public void incBackgroundDefragmentations() {
+    stats.incInt(backgroundDefragmentationsId, 1);
+  }
+
+  @Override
+  public int getBackgroundDefragmentations() {
+    return stats.getInt(backgroundDefragmentationsId);
+  }
+
   @Override
   public long getDefragmentationTime() {
     return stats.getLong(defragmentationTimeId);
@@ -409,6 +438,26 @@ public class OffHeapStorage implements OffHeapMemoryStats {
     stats.setLong(freedChunksId, value);
   }
 
+  @Override
+  public void incThreadCacheAllocations() {
+    stats.incLong(threadCacheAllocationsId, 1);
+  }
+
+  @Override
+  public long getThreadCacheAllocations() {
+    return stats.getLong(threadCacheAllocationsId);
+  }
+
+  @Override
+  public void incThreadCacheFlushes() {
+    stats.incLong(threadCacheFlushesId, 1);
+  }
+
+  @Override
+  public long getThreadCacheFlushes() {
+    return stats.getLong(threadCacheFlushesId);
+  }
+
   @Override
   public int getFragmentation() {
     return stats.getInt(fragmentationId);
@@ -437,6 +486,9 @@ public class OffHeapStorage implements OffHeapMemoryStats {
     setLargestFragment(oldStats.getLargestFragment());
     setDefragmentationTime(oldStats.getDefragmentationTime());
     setFragmentation(oldStats.getFragmentation());
+    setThreadCacheAllocations(oldStats.getThreadCacheAllocations());
+    setThreadCacheFlushes(oldStats.getThreadCacheFlushes());
+    setBackgroundDefragmentations(oldStats.getBackgroundDefragmentations());
 
     oldStats.close();
   }
@@ -453,6 +505,18 @@ public class OffHeapStorage implements OffHeapMemoryStats {
     stats.setInt(defragmentationsInProgressId, value);
   }
 
+  private void setBackgroundDefragmentations(int value) {
+    stats.setInt(backgroundDefragmentationsId, value);
+  }
+
+  private void setThreadCacheAllocations(long value) {
+    stats.setLong(threadCacheAllocationsId, value);
+  }
+
+  private void setThreadCacheFlushes(long value) {
+    stats.setLong(threadCacheFlushesId, value);
+  }
+
   private void setReads(long value) {
     stats.setLong(readsId, value);
   }
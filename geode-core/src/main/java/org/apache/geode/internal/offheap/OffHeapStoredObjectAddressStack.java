@@ -55,6 +55,28 @@ public class OffHeapStoredObjectAddressStack implements LongStack {
     }
   }
 
+  /**
+   * Pushes every address of a chain linked with OffHeapStoredObject.setNext and ending with
+   * {@code 0L}. The caller must own all the addresses in the chain.
+   */
+  public void offerChain(long headAddr) {
+    assert headAddr != 0;
+    MemoryAllocatorImpl.validateAddress(headAddr);
+    long lastAddr = headAddr;
+    int count = 1;
+    long next = OffHeapStoredObject.getNext(lastAddr);
+    while (next != 0L) {
+      lastAddr = next;
+      count++;
+      next = OffHeapStoredObject.getNext(lastAddr);
+    }
+    synchronized (this) {
+      OffHeapStoredObject.setNext(lastAddr, topAddr);
+      topAddr = headAddr;
+      size += count;
+    }
+  }
+
   public int size() {
     return size;
   }
@@ -73,6 +95,32 @@ public class OffHeapStoredObjectAddressStack implements LongStack {
     return result;
   }
 
+  /**
+   * Removes up to {@code maxCount} addresses from the top of this stack and returns them as a chain
+   * ending with {@code 0L}, or returns {@code 0L} if this stack is empty. The caller owns all the
+   * addresses in the returned chain.
+   */
+  public long pollChain(int maxCount) {
+    long result;
+    synchronized (this) {
+      result = topAddr;
+      if (result != 0L) {
+        long lastAddr = result;
+        int count = 1;
+        long next = OffHeapStoredObject.getNext(lastAddr);
+        while (next != 0L && count < maxCount) {
+          lastAddr = next;
+          count++;
+          next = OffHeapStoredObject.getNext(lastAddr);
+        }
+        OffHeapStoredObject.setNext(lastAddr, 0L);
+        topAddr = next;
+        size -= count;
+      }
+    }
+    return result;
+  }
+
   /**
    * Returns the address of the "top" item in this stack.
    */
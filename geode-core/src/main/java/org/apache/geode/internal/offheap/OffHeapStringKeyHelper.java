@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.offheap;
+
+/**
+ * Static methods used by region entries that keep their String key in off-heap memory instead of
+ * in a String on the heap. Each key is stored in its own off-heap chunk. The first data byte of
+ * the chunk says how the chars that follow it are encoded: one byte per char if every char is
+ * <= 0x7f, otherwise two bytes per char. The region entry only keeps the chunk's address.
+ *
+ * <p>
+ * Readers retain the chunk while they read it so that a concurrent release of the entry can not
+ * free it out from under them. Since the address may have been freed and reused before the retain,
+ * callers must check that the entry still has the same address after calling a read method.
+ *
+ * @since Geode 1.16
+ */
+public class OffHeapStringKeyHelper {
+  private static final byte BYTE_ENCODED = 1;
+  private static final byte CHAR_ENCODED = 2;
+
+  private OffHeapStringKeyHelper() {
+    // no instances allowed
+  }
+
+  /**
+   * Copies the given key into a newly allocated off-heap chunk.
+   *
+   * @return the address of the chunk; it must eventually be passed to {@link #releaseKey(long)}
+   */
+  public static long allocateKey(String key) {
+    final int length = key.length();
+    final boolean byteEncoded = isByteEncodingOk(key);
+    final int dataSize = 1 + (byteEncoded ? length : length * 2);
+    final long address = MemoryAllocatorImpl.getAllocator().allocate(dataSize).getAddress();
+    final long dataAddress = address + OffHeapStoredObject.HEADER_SIZE;
+    if (byteEncoded) {
+      AddressableMemoryManager.writeByte(dataAddress, BYTE_ENCODED);
+      for (int i = 0; i < length; i++) {
+        AddressableMemoryManager.writeByte(dataAddress + 1 + i, (byte) key.charAt(i));
+      }
+    } else {
+      AddressableMemoryManager.writeByte(dataAddress, CHAR_ENCODED);
+      for (int i = 0; i < length; i++) {
+        final char c = key.charAt(i);
+        AddressableMemoryManager.writeByte(dataAddress + 1 + (i * 2), (byte) (c >> 8));
+        AddressableMemoryManager.writeByte(dataAddress + 2 + (i * 2), (byte) c);
+      }
+    }
+    return address;
+  }
+
+  /**
+   * Returns a heap copy of the key stored at the given address, or null if the chunk at that
+   * address has already been freed.
+   */
+  public static String readKey(long address) {
+    if (!ReferenceCounter.retain(address)) {
+      return null;
+    }
+    try {
+      final long dataAddress = address + OffHeapStoredObject.HEADER_SIZE;
+      final int dataSize = OffHeapStoredObject.getDataSize(address);
+      final char[] chars;
+      if (AddressableMemoryManager.readByte(dataAddress) == BYTE_ENCODED) {
+        chars = new char[dataSize - 1];
+        for (int i = 0; i < chars.length; i++) {
+          chars[i] = (char) (AddressableMemoryManager.readByte(dataAddress + 1 + i) & 0xff);
+        }
+      } else {
+        chars = new char[(dataSize - 1) / 2];
+        for (int i = 0; i < chars.length; i++) {
+          chars[i] = readChar(dataAddress + 1 + (i * 2));
+        }
+      }
+      return new String(chars);
+    } finally {
+      ReferenceCounter.release(address);
+    }
+  }
+
+  /**
+   * Compares the key stored at the given address with the given key without copying it to the
+   * heap. Return null if the chunk at that address has already been freed. Return true if the keys
+   * are equal and false if they are not.
+   */
+  public static Boolean isKeyEqual(long address, String key) {
+    if (!ReferenceCounter.retain(address)) {
+      return null;
+    }
+    try {
+      final long dataAddress = address + OffHeapStoredObject.HEADER_SIZE;
+      final int dataSize = OffHeapStoredObject.getDataSize(address);
+      final int length = key.length();
+      if (AddressableMemoryManager.readByte(dataAddress) == BYTE_ENCODED) {
+        if (dataSize - 1 != length) {
+          return Boolean.FALSE;
+        }
+        for (int i = 0; i < length; i++) {
+          if (key.charAt(i) != (char) (AddressableMemoryManager.readByte(dataAddress + 1 + i)
+              & 0xff)) {
+            return Boolean.FALSE;
+          }
+        }
+      } else {
+        if (dataSize - 1 != length * 2) {
+          return Boolean.FALSE;
+        }
+        for (int i = 0; i < length; i++) {
+          if (key.charAt(i) != readChar(dataAddress + 1 + (i * 2))) {
+            return Boolean.FALSE;
+          }
+        }
+      }
+      return Boolean.TRUE;
+    } finally {
+      ReferenceCounter.release(address);
+    }
+  }
+
+  /**
+   * Frees the off-heap chunk that stores the key at the given address.
+   */
+  public static void releaseKey(long address) {
+    ReferenceCounter.release(address);
+  }
+
+  private static char readChar(long address) {
+    return (char) (((AddressableMemoryManager.readByte(address) & 0xff) << 8)
+        | (AddressableMemoryManager.readByte(address + 1) & 0xff));
+  }
+
+  private static boolean isByteEncodingOk(String key) {
+    for (int i = 0; i < key.length(); i++) {
+      if (key.charAt(i) > 0x7f) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
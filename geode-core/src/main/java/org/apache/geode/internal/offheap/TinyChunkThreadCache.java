@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.offheap;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * A small stack of free tiny chunk addresses for each tiny size class, owned by a single thread.
+ * The FreeListManager allocates from and frees to the owner's cache first so that most tiny
+ * allocations do not touch the shared free lists. Like OffHeapStoredObjectAddressStack, the
+ * addresses are linked together through the free chunks themselves.
+ *
+ * <p>
+ * Only the owning thread allocates from and frees to its cache, but other threads drain it when
+ * memory is defragmented or inspected. The methods are synchronized for that reason; the lock is
+ * almost never contended.
+ */
+class TinyChunkThreadCache {
+
+  private final WeakReference<Thread> owner;
+
+  private final long[] topAddrs;
+
+  private final int[] sizes;
+
+  private final int capacity;
+
+  private int chunkCount;
+
+  private long chunkBytes;
+
+  /**
+   * @param sizeClasses the number of tiny size classes, starting at the smallest, that are cached
+   * @param capacity the maximum number of chunks cached for each size class
+   */
+  TinyChunkThreadCache(Thread owner, int sizeClasses, int capacity) {
+    this.owner = new WeakReference<>(owner);
+    topAddrs = new long[sizeClasses];
+    sizes = new int[sizeClasses];
+    this.capacity = capacity;
+  }
+
+  boolean isOwnerAlive() {
+    Thread thread = owner.get();
+    return thread != null && thread.isAlive();
+  }
+
+  int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * Removes and returns a cached chunk of the given size class, or {@code 0L} if there is none.
+   */
+  synchronized long poll(int sizeClass) {
+    long addr = topAddrs[sizeClass];
+    if (addr != 0L) {
+      topAddrs[sizeClass] = OffHeapStoredObject.getNext(addr);
+      sizes[sizeClass]--;
+      chunkCount--;
+      chunkBytes -= OffHeapStoredObject.getSize(addr);
+    }
+    return addr;
+  }
+
+  /**
+   * Adds a free chunk to the given size class. Returns false, without adding it, if the size class
+   * is already full.
+   */
+  synchronized boolean offer(int sizeClass, long addr) {
+    if (sizes[sizeClass] >= capacity) {
+      return false;
+    }
+    push(sizeClass, addr);
+    return true;
+  }
+
+  /**
+   * Adds every chunk of a chain linked with OffHeapStoredObject.setNext and ending with
+   * {@code 0L} to the given size class.
+   */
+  synchronized void offerChain(int sizeClass, long headAddr) {
+    long addr = headAddr;
+    while (addr != 0L) {
+      long next = OffHeapStoredObject.getNext(addr);
+      push(sizeClass, addr);
+      addr = next;
+    }
+  }
+
+  private void push(int sizeClass, long addr) {
+    OffHeapStoredObject.setNext(addr, topAddrs[sizeClass]);
+    topAddrs[sizeClass] = addr;
+    sizes[sizeClass]++;
+    chunkCount++;
+    chunkBytes += OffHeapStoredObject.getSize(addr);
+  }
+
+  /**
+   * Removes up to {@code maxChunks} chunks of the given size class and returns them as a chain
+   * ending with {@code 0L}, or returns {@code 0L} if the size class is empty.
+   */
+  synchronized long pollChain(int sizeClass, int maxChunks) {
+    long headAddr = topAddrs[sizeClass];
+    if (headAddr == 0L) {
+      return 0L;
+    }
+    long lastAddr = headAddr;
+    int count = 1;
+    chunkBytes -= OffHeapStoredObject.getSize(lastAddr);
+    long next = OffHeapStoredObject.getNext(lastAddr);
+    while (next != 0L && count < maxChunks) {
+      lastAddr = next;
+      count++;
+      chunkBytes -= OffHeapStoredObject.getSize(lastAddr);
+      next = OffHeapStoredObject.getNext(lastAddr);
+    }
+    OffHeapStoredObject.setNext(lastAddr, 0L);
+    topAddrs[sizeClass] = next;
+    sizes[sizeClass] -= count;
+    chunkCount -= count;
+    return headAddr;
+  }
+
+  int getSizeClassCount() {
+    return topAddrs.length;
+  }
+
+  synchronized int getChunkCount() {
+    return chunkCount;
+  }
+
+  synchronized long getChunkBytes() {
+    return chunkBytes;
+  }
+}
@@ -18,6 +18,7 @@ import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static java.lang.String.format;
 import static java.lang.ThreadLocal.withInitial;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.apache.geode.distributed.ConfigurationProperties.SECURITY_PEER_AUTH_INIT;
 import static org.apache.geode.distributed.internal.DistributionConfigImpl.SECURITY_SYSTEM_PREFIX;
@@ -47,6 +48,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLException;
@@ -187,9 +190,10 @@ public class Connection implements Runnable {
   private final Socket socket;
 
   /**
-   * output stream/channel lock
+   * output stream/channel lock. A {@link ReentrantLock} rather than a monitor so that a virtual
+   * thread blocked in a socket write while holding it does not pin its carrier thread.
    */
-  private final Object outLock = new Object();
+  private final ReentrantLock outLock = new ReentrantLock();
 
   /**
    * the ID string of the conduit (for logging)
@@ -273,7 +277,13 @@ public class Connection implements Runnable {
   private static final byte REPLY_CODE_OK = (byte) 69;
   private static final byte REPLY_CODE_OK_WITH_ASYNC_INFO = (byte) 70;
 
-  private final Object handshakeSync = new Object();
+  /**
+   * guards the handshake state. A {@link ReentrantLock} for the same reason as {@link #outLock}:
+   * a virtual thread waiting for the handshake would otherwise pin its carrier thread.
+   */
+  private final ReentrantLock handshakeLock = new ReentrantLock();
+
+  private final Condition handshakeCondition = handshakeLock.newCondition();
 
   /** message reader thread */
   private volatile Thread readerThread;
@@ -756,7 +766,8 @@ public class Connection implements Runnable {
     boolean needToClose = false;
     String reason = null;
     try {
-      synchronized (handshakeSync) {
+      handshakeLock.lock();
+      try {
         if (!handshakeRead && !handshakeCancelled) {
           reason = "unknown";
           boolean interrupted = Thread.interrupted();
@@ -765,7 +776,7 @@ public class Connection implements Runnable {
             final long endTime = System.currentTimeMillis() + HANDSHAKE_TIMEOUT_MS;
             long msToWait = HANDSHAKE_TIMEOUT_MS;
             while (!handshakeRead && !handshakeCancelled && msToWait > 0) {
-              handshakeSync.wait(msToWait); // spurious wakeup ok
+              handshakeCondition.await(msToWait, MILLISECONDS); // spurious wakeup ok
               if (!handshakeRead && !handshakeCancelled) {
                 msToWait = endTime - System.currentTimeMillis();
               }
@@ -813,6 +824,8 @@ public class Connection implements Runnable {
             }
           }
         }
+      } finally {
+        handshakeLock.unlock();
       }
 
     } finally {
@@ -839,7 +852,8 @@ public class Connection implements Runnable {
 
   @VisibleForTesting
   void notifyHandshakeWaiter(boolean success) {
-    synchronized (handshakeSync) {
+    handshakeLock.lock();
+    try {
       /*
        * Return early to avoid modifying ioFilter's buffer more than once.
        */
@@ -852,7 +866,9 @@ public class Connection implements Runnable {
       } else {
         handshakeCancelled = true;
       }
-      handshakeSync.notifyAll();
+      handshakeCondition.signalAll();
+    } finally {
+      handshakeLock.unlock();
     }
   }
 
@@ -2505,7 +2521,8 @@ public class Connection implements Runnable {
     int retries = 0;
     int totalAmtWritten = 0;
     try {
-      synchronized (outLock) {
+      outLock.lock();
+      try {
         if (!forceAsync) {
           // check one more time while holding outLock in case a pusher was created
           if (asyncQueuingInProgress) {
@@ -2642,6 +2659,8 @@ public class Connection implements Runnable {
         } finally {
           channel.configureBlocking(true);
         }
+      } finally {
+        outLock.unlock();
       }
     } finally {
       if (socketWriteStarted) {
@@ -2674,7 +2693,8 @@ public class Connection implements Runnable {
         // fall through
       }
       long startLock = stats.startSocketLock();
-      synchronized (outLock) {
+      outLock.lock();
+      try {
         stats.endSocketLock(startLock);
         if (asyncQueuingInProgress) {
           if (addToQueue(buffer, msg, false)) {
@@ -2696,6 +2716,8 @@ public class Connection implements Runnable {
           }
 
         }
+      } finally {
+        outLock.unlock();
       }
     } else {
       writeAsync(channel, buffer, forceAsync, msg, stats);
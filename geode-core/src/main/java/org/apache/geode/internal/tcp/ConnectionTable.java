@@ -205,6 +205,10 @@ public class ConnectionTable {
     if (conserveSockets) {
       return LoggingExecutors.newThreadOnEachExecute("SharedP2PReader");
     }
+    if (CoreLoggingExecutors.useVirtualThreads()) {
+      return CoreLoggingExecutors.newVirtualThreadPerTaskExecutor("UnsharedP2PReader", null,
+          null);
+    }
     return CoreLoggingExecutors.newThreadPoolWithSynchronousFeed(1, MAX_VALUE,
         READER_POOL_KEEP_ALIVE_TIME, SECONDS, "UnsharedP2PReader");
   }
@@ -221,7 +221,14 @@ public class CustomEntryConcurrentHashMap<K, V> extends AbstractMap<K, V>
    * bits.
    */
   public static int keyHash(final Object o, final boolean compareValues) {
-    int h = compareValues ? o.hashCode() : System.identityHashCode(o);
+    return keyHash(compareValues ? o.hashCode() : System.identityHashCode(o));
+  }
+
+  /**
+   * Returns the hash {@link #keyHash(Object, boolean)} computes for a key whose hashCode is the
+   * given value. This lets entries with primitive keys compute their hash without boxing the key.
+   */
+  public static int keyHash(int h) {
     // Spread bits to regularize both segment and index locations,
     // using variant of single-word Wang/Jenkins hash.
     h += (h << 15) ^ 0xffffcd7d;
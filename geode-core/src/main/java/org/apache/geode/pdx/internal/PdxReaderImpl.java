@@ -695,6 +695,14 @@ public class PdxReaderImpl implements InternalPdxReader, java.io.Serializable {
     if (ft == null) {
       return null;
     }
+    return readField(ft);
+  }
+
+  /**
+   * The same as {@link #readField(String)} for a field that has already been looked up in the type
+   * of this reader.
+   */
+  public Object readField(PdxField ft) {
     switch (ft.getFieldType()) {
       case CHAR:
         return readChar(ft);
@@ -953,6 +961,14 @@ public class PdxReaderImpl implements InternalPdxReader, java.io.Serializable {
     if (ft == null) {
       return null;
     }
+    return readRawField(ft);
+  }
+
+  /**
+   * The same as {@link #readRawField(String)} for a field that has already been looked up in the
+   * type of this reader.
+   */
+  public Object readRawField(PdxField ft) {
     if (ft.getFieldType() == FieldType.STRING) {
       return readPdxString(ft);
     } else {
@@ -961,7 +977,7 @@ public class PdxReaderImpl implements InternalPdxReader, java.io.Serializable {
         return pdxString;
       }
     }
-    return readField(field);
+    return readField(ft);
   }
 
   /**
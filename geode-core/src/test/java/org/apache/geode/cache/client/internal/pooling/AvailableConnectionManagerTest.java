@@ -23,6 +23,9 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.Test;
@@ -245,6 +248,68 @@ public class AvailableConnectionManagerTest {
     assertThat(connection).isSameAs(expected);
   }
 
+  @Test
+  public void awaitAvailableReturnsImmediatelyGivenManagerWithOneItem() throws Exception {
+    instance.addLast(createConnection(), false);
+
+    boolean result = instance.awaitAvailable(TimeUnit.MINUTES.toNanos(1));
+
+    assertThat(result).isTrue();
+  }
+
+  @Test
+  public void awaitAvailableReturnsFalseGivenEmptyManagerAndTimeout() throws Exception {
+    boolean result = instance.awaitAvailable(TimeUnit.MILLISECONDS.toNanos(1));
+
+    assertThat(result).isFalse();
+  }
+
+  @Test
+  public void awaitAvailableReturnsFalseGivenNonPositiveTimeout() throws Exception {
+    boolean result = instance.awaitAvailable(0);
+
+    assertThat(result).isFalse();
+  }
+
+  @Test
+  public void awaitAvailableIsWokenByAddFirst() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> {
+      started.countDown();
+      try {
+        return instance.awaitAvailable(TimeUnit.MINUTES.toNanos(5));
+      } catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    started.await();
+
+    instance.addFirst(createConnection(), true);
+
+    assertThat(waiter.get(5, TimeUnit.MINUTES)).isTrue();
+  }
+
+  @Test
+  public void awaitAvailableIsWokenBySignalAll() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> {
+      started.countDown();
+      try {
+        return instance.awaitAvailable(TimeUnit.MINUTES.toNanos(5));
+      } catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    started.await();
+
+    while (!waiter.isDone()) {
+      instance.signalAll();
+      Thread.sleep(10);
+    }
+
+    assertThat(waiter.get()).isTrue();
+  }
+
   private Connection createConnection() {
     Connection result = mock(Connection.class);
     when(result.activate()).thenReturn(true);
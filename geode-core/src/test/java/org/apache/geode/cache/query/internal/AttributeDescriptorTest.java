@@ -26,6 +26,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.util.stream.IntStream;
 
@@ -168,6 +169,18 @@ public class AttributeDescriptorTest {
     verify(attributeDescriptor, times(1)).getReadMethod(TestBean.class);
   }
 
+  @Test
+  public void getReadMemberShouldRememberLastMemberWhenSharedCacheIsCleared()
+      throws NameNotFoundException {
+    AttributeDescriptor attributeDescriptor =
+        spy(new AttributeDescriptor(typeRegistry, PUBLIC_NO_ACCESSORS));
+    Member member = attributeDescriptor.getReadMember(TestBean.class);
+    AttributeDescriptor._localCache.clear();
+
+    assertThat(attributeDescriptor.getReadMember(TestBean.class)).isSameAs(member);
+    verify(attributeDescriptor, times(1)).getReadField(TestBean.class);
+  }
+
   @Test
   public void getReadMemberShouldThrowExceptionWhenMethodCanNotBeFound() {
     AttributeDescriptor attributeDescriptor =
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.query.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+
+public class BucketSplitTest {
+
+  private final BucketSplit bucketSplit = new BucketSplit(mock(CompiledValue.class), 3);
+
+  @Test
+  public void allSplitsIterateWhenFirstPlanIteratesEvenIfLaterPlansUseIndex() {
+    assertThat(bucketSplit.getEvaluation(1, false)).isEqualTo(BucketSplit.Evaluation.ITERATE);
+    assertThat(bucketSplit.getEvaluation(0, true)).isEqualTo(BucketSplit.Evaluation.ITERATE);
+    assertThat(bucketSplit.getEvaluation(2, false)).isEqualTo(BucketSplit.Evaluation.ITERATE);
+  }
+
+  @Test
+  public void onlyFirstSplitToPlanIndexUseEvaluatesWithIndex() {
+    assertThat(bucketSplit.getEvaluation(2, true)).isEqualTo(BucketSplit.Evaluation.FILTER);
+    assertThat(bucketSplit.getEvaluation(0, true)).isEqualTo(BucketSplit.Evaluation.SKIP);
+    assertThat(bucketSplit.getEvaluation(1, false)).isEqualTo(BucketSplit.Evaluation.SKIP);
+  }
+}
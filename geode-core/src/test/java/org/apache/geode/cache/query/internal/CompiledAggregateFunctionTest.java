@@ -28,6 +28,7 @@ import org.junit.Test;
 import org.apache.geode.cache.query.Aggregator;
 import org.apache.geode.cache.query.internal.aggregate.Avg;
 import org.apache.geode.cache.query.internal.aggregate.AvgBucketNode;
+import org.apache.geode.cache.query.internal.aggregate.AvgDataStoreNode;
 import org.apache.geode.cache.query.internal.aggregate.AvgDistinct;
 import org.apache.geode.cache.query.internal.aggregate.AvgDistinctPRQueryNode;
 import org.apache.geode.cache.query.internal.aggregate.AvgPRQueryNode;
@@ -36,6 +37,7 @@ import org.apache.geode.cache.query.internal.aggregate.CountDistinct;
 import org.apache.geode.cache.query.internal.aggregate.CountDistinctPRQueryNode;
 import org.apache.geode.cache.query.internal.aggregate.CountPRQueryNode;
 import org.apache.geode.cache.query.internal.aggregate.DistinctAggregator;
+import org.apache.geode.cache.query.internal.aggregate.DistinctDataStoreNode;
 import org.apache.geode.cache.query.internal.aggregate.MaxMin;
 import org.apache.geode.cache.query.internal.aggregate.Sum;
 import org.apache.geode.cache.query.internal.aggregate.SumDistinct;
@@ -179,4 +181,27 @@ public class CompiledAggregateFunctionTest {
     MaxMin maxMin1 = (MaxMin) agg1;
     assertThat(findMax.get(maxMin1)).isEqualTo(Boolean.FALSE);
   }
+
+  @Test
+  public void testDataStoreNode() throws Exception {
+    QueryExecutionContext context = new QueryExecutionContext(null, cache);
+    context.setBucketList(bucketList);
+    context.setIsDataStoreNode(true);
+
+    assertThat(new CompiledAggregateFunction(null, OQLLexerTokenTypes.COUNT).evaluate(context))
+        .isInstanceOf(CountPRQueryNode.class);
+    assertThat(new CompiledAggregateFunction(null, OQLLexerTokenTypes.SUM).evaluate(context))
+        .isInstanceOf(Sum.class);
+    assertThat(new CompiledAggregateFunction(null, OQLLexerTokenTypes.AVG).evaluate(context))
+        .isInstanceOf(AvgDataStoreNode.class);
+    assertThat(new CompiledAggregateFunction(null, OQLLexerTokenTypes.MAX).evaluate(context))
+        .isInstanceOf(MaxMin.class);
+    assertThat(
+        new CompiledAggregateFunction(null, OQLLexerTokenTypes.COUNT, true).evaluate(context))
+            .isInstanceOf(DistinctDataStoreNode.class);
+    assertThat(new CompiledAggregateFunction(null, OQLLexerTokenTypes.SUM, true).evaluate(context))
+        .isInstanceOf(DistinctDataStoreNode.class);
+    assertThat(new CompiledAggregateFunction(null, OQLLexerTokenTypes.AVG, true).evaluate(context))
+        .isInstanceOf(DistinctDataStoreNode.class);
+  }
 }
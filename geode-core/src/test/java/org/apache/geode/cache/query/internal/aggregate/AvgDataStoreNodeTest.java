@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.cache.query.internal.aggregate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class AvgDataStoreNodeTest {
+  private AvgDataStoreNode avgDataStoreNode;
+
+  @Before
+  public void setUp() {
+    avgDataStoreNode = new AvgDataStoreNode();
+  }
+
+  @Test
+  public void accumulateShouldIncreaseAccumulatedCount() {
+    avgDataStoreNode.accumulate(new Long[] {2L, 10L});
+    avgDataStoreNode.accumulate(new Long[] {3L, 30L});
+
+    assertThat(avgDataStoreNode.getCount()).isEqualTo(5);
+    assertThat(avgDataStoreNode.getResult()).isEqualTo(40);
+  }
+
+  @Test
+  public void terminateShouldReturnCombinedCountAndSum() {
+    avgDataStoreNode.accumulate(new Object[] {7L, 43});
+    avgDataStoreNode.accumulate(new Object[] {5L, 27});
+
+    Object result = avgDataStoreNode.terminate();
+    assertThat(result).isInstanceOf(Object[].class);
+    assertThat(((Object[]) result)[0]).isEqualTo(12L);
+    assertThat(((Number) ((Object[]) result)[1]).intValue()).isEqualTo(70);
+  }
+
+  @Test
+  public void terminatedResultShouldBeAcceptedByPRQueryNode() {
+    avgDataStoreNode.accumulate(new Object[] {2L, 10});
+    avgDataStoreNode.accumulate(new Object[] {2L, 30});
+    AvgPRQueryNode avgPRQueryNode = new AvgPRQueryNode();
+    avgPRQueryNode.accumulate(avgDataStoreNode.terminate());
+    avgPRQueryNode.accumulate(new Object[] {1L, 5});
+
+    assertThat(((Number) avgPRQueryNode.terminate()).intValue()).isEqualTo(9);
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.compression;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import org.apache.geode.test.awaitility.GeodeAwaitility;
+
+public class DeflateCompressorTest {
+
+  private static byte[] document(int id) {
+    return ("{\"id\":" + id + ",\"firstName\":\"first" + id + "\",\"lastName\":\"last" + id
+        + "\",\"street\":\"" + id + " Main Street\",\"city\":\"Springfield\","
+        + "\"country\":\"United States\",\"status\":\"active\"}").getBytes(UTF_8);
+  }
+
+  @Test
+  public void compressedValueDecompressesToOriginal() {
+    DeflateCompressor compressor = new DeflateCompressor();
+    byte[] input = "Hello, how are you? Hello, how are you? Hello, how are you?".getBytes(UTF_8);
+
+    byte[] compressed = compressor.compress(input);
+
+    assertThat(compressed[0]).isEqualTo(DeflateCompressor.DEFLATED);
+    assertThat(compressed.length).isLessThan(input.length);
+    assertThat(compressor.decompress(compressed)).isEqualTo(input);
+  }
+
+  @Test
+  public void incompressibleValueIsStored() {
+    DeflateCompressor compressor = new DeflateCompressor();
+    byte[] input = new byte[1024];
+    new Random(1).nextBytes(input);
+
+    byte[] compressed = compressor.compress(input);
+
+    assertThat(compressed[0]).isEqualTo(DeflateCompressor.STORED);
+    assertThat(compressed).hasSize(input.length + 1);
+    assertThat(compressor.decompress(compressed)).isEqualTo(input);
+  }
+
+  @Test
+  public void emptyValueRoundTrips() {
+    DeflateCompressor compressor = new DeflateCompressor();
+
+    assertThat(compressor.decompress(compressor.compress(new byte[0]))).isEmpty();
+  }
+
+  @Test
+  public void similarValuesTrainDictionary() {
+    DeflateCompressor compressor = new DeflateCompressor(1, 16, 0.9);
+    List<byte[]> compressed = new ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      compressed.add(compressor.compress(document(i)));
+    }
+    assertThat(compressor.getDictionary()).isNotNull();
+
+    byte[] withoutDictionary = new DeflateCompressor(1, 0, 0.9).compress(document(100));
+    byte[] withDictionary = compressor.compress(document(100));
+
+    assertThat(withDictionary[0]).isEqualTo(DeflateCompressor.DEFLATED_WITH_DICTIONARY);
+    assertThat(withDictionary.length).isLessThan(withoutDictionary.length);
+    assertThat(compressor.decompress(withDictionary)).isEqualTo(document(100));
+    for (int i = 0; i < 16; i++) {
+      assertThat(compressor.decompress(compressed.get(i))).isEqualTo(document(i));
+    }
+  }
+
+  @Test
+  public void unrelatedValuesDoNotTrainDictionary() {
+    DeflateCompressor compressor = new DeflateCompressor(1, 8, 1);
+    Random random = new Random(1);
+    for (int i = 0; i < 8; i++) {
+      byte[] input = new byte[256];
+      random.nextBytes(input);
+      compressor.compress(input);
+    }
+
+    assertThat(compressor.getDictionary()).isNull();
+  }
+
+  @Test
+  public void compressDoesNotLockOnceDictionaryIsRejected() throws Exception {
+    DeflateCompressor compressor = new DeflateCompressor(1, 8, 1);
+    Random random = new Random(1);
+    for (int i = 0; i < 8; i++) {
+      byte[] input = new byte[256];
+      random.nextBytes(input);
+      compressor.compress(input);
+    }
+    assertThat(compressor.isDictionaryRejected()).isTrue();
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      synchronized (compressor) {
+        Future<byte[]> compressed = executor.submit(() -> compressor.compress(document(1)));
+
+        assertThat(compressed.get(GeodeAwaitility.getTimeout().toMillis(), MILLISECONDS))
+            .isNotEmpty();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void dictionaryIsBuiltFromMostRecentSamples() {
+    List<byte[]> samples = new ArrayList<>();
+    samples.add(new byte[] {1, 2, 3});
+    samples.add(new byte[DeflateCompressor.MAXIMUM_DICTIONARY_SIZE - 1]);
+
+    byte[] dictionary = DeflateCompressor.buildDictionary(samples);
+
+    assertThat(dictionary).hasSize(DeflateCompressor.MAXIMUM_DICTIONARY_SIZE);
+    assertThat(dictionary[0]).isEqualTo((byte) 3);
+  }
+
+  @Test
+  public void decompressingDictionaryValueWithoutDictionaryThrows() {
+    DeflateCompressor trained = new DeflateCompressor(1, 16, 0.9);
+    for (int i = 0; i < 16; i++) {
+      trained.compress(document(i));
+    }
+    byte[] compressed = trained.compress(document(100));
+
+    assertThatThrownBy(() -> new DeflateCompressor().decompress(compressed))
+        .isInstanceOf(CompressionException.class);
+  }
+
+  @Test
+  public void unknownFormatThrows() {
+    assertThatThrownBy(() -> new DeflateCompressor().decompress(new byte[] {42, 0}))
+        .isInstanceOf(CompressionException.class);
+  }
+
+  @Test
+  public void invalidArgumentsThrow() {
+    assertThatThrownBy(() -> new DeflateCompressor(0, 1, 0.9))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new DeflateCompressor(1, -1, 0.9))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new DeflateCompressor(1, 1, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void equalsComparesConfiguration() {
+    assertThat(new DeflateCompressor()).isEqualTo(new DeflateCompressor());
+    assertThat(new DeflateCompressor().hashCode()).isEqualTo(new DeflateCompressor().hashCode());
+    assertThat(new DeflateCompressor()).isNotEqualTo(new DeflateCompressor(9, 64, 0.9));
+    assertThat(new DeflateCompressor()).isNotEqualTo(new SnappyCompressor());
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class CompactionThrottleTest {
+
+  private final AtomicLong clock = new AtomicLong();
+
+  @Test
+  public void disabledThrottleNeverWaits() {
+    CompactionThrottle throttle = new CompactionThrottle(0, clock::get);
+    throttle.start();
+
+    assertThat(throttle.isEnabled()).isFalse();
+    assertThat(throttle.record(Integer.MAX_VALUE)).isZero();
+  }
+
+  @Test
+  public void waitsUntilBytesFitInBudget() {
+    CompactionThrottle throttle = new CompactionThrottle(1000, clock::get);
+    throttle.start();
+
+    assertThat(throttle.record(500)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+    assertThat(throttle.record(1000)).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+  }
+
+  @Test
+  public void doesNotWaitWhenSlowerThanBudget() {
+    CompactionThrottle throttle = new CompactionThrottle(1000, clock::get);
+    throttle.start();
+
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(800));
+
+    assertThat(throttle.record(500)).isZero();
+  }
+
+  @Test
+  public void limitsCreditFromSlowStretch() {
+    CompactionThrottle throttle = new CompactionThrottle(1000, clock::get);
+    throttle.start();
+
+    clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+    assertThat(throttle.record(1000)).isZero();
+
+    // only one second of credit remains so two more seconds of bytes must wait one second
+    assertThat(throttle.record(2000)).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+  }
+}
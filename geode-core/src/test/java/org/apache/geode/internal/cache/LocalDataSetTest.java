@@ -14,6 +14,7 @@
  */
 package org.apache.geode.internal.cache;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.any;
@@ -23,6 +24,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.junit.Test;
 
@@ -61,4 +64,35 @@ public class LocalDataSetTest {
 
     verify(spy).getHashKey(Operation.CONTAINS_KEY, key, null, callbackArg);
   }
+
+  @Test
+  public void verifyThatKeysOfOneBucketAreSpreadOverAllBucketSplits() {
+    int totalNumBuckets = 113;
+    int splitCount = 4;
+    Set<Integer> splits = new HashSet<>();
+    for (int key = 7; key < 100 * totalNumBuckets; key += totalNumBuckets) {
+      splits.add(LocalDataSet.getBucketSplit(key, splitCount));
+    }
+    assertEquals(splitCount, splits.size());
+  }
+
+  @Test
+  public void verifyThatEveryKeyIsInExactlyOneBucketSplit() {
+    PartitionedRegion pr = mock(PartitionedRegion.class);
+    int splitCount = 3;
+    LocalDataSet[] splits = new LocalDataSet[splitCount];
+    for (int i = 0; i < splitCount; i++) {
+      splits[i] = new LocalDataSet(pr, Collections.emptySet());
+      splits[i].setBucketSplit(i, splitCount);
+    }
+    for (int key = 0; key < 1000; key++) {
+      int matches = 0;
+      for (LocalDataSet split : splits) {
+        if (split.isInBucketSplit("key" + key)) {
+          matches++;
+        }
+      }
+      assertEquals(1, matches);
+    }
+  }
 }
@@ -71,6 +71,27 @@ public class OplogEntryIdSetTest {
     assertThat(s.contains(Long.MIN_VALUE)).isTrue();
   }
 
+  @Test
+  public void addAllAddsIdsOfOtherSet() {
+    OplogEntryIdSet s = new OplogEntryIdSet();
+    s.add(1);
+    OplogEntryIdSet other = new OplogEntryIdSet();
+    other.add(1);
+    other.add(2);
+    other.add(0x00000000FFFFFFFFL);
+    other.add(0x00000000FFFFFFFFL + 1);
+    other.add(Long.MIN_VALUE);
+
+    s.addAll(other);
+
+    assertThat(s.size()).isEqualTo(5);
+    assertThat(s.contains(1)).isTrue();
+    assertThat(s.contains(2)).isTrue();
+    assertThat(s.contains(0x00000000FFFFFFFFL)).isTrue();
+    assertThat(s.contains(0x00000000FFFFFFFFL + 1)).isTrue();
+    assertThat(s.contains(Long.MIN_VALUE)).isTrue();
+  }
+
   @Test
   public void addMethodOverflowsWhenInternalAddThrowsIllegalArgumentException() {
     int testEntries = 1000;
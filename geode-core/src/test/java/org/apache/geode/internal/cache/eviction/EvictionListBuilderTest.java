@@ -14,6 +14,7 @@
  */
 package org.apache.geode.internal.cache.eviction;
 
+import static org.apache.geode.internal.lang.SystemPropertyHelper.EVICTION_LIST_SEGMENTS;
 import static org.apache.geode.internal.lang.SystemPropertyHelper.EVICTION_SCAN_ASYNC;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -28,9 +29,11 @@ import org.apache.geode.cache.EvictionAlgorithm;
 
 public class EvictionListBuilderTest {
   private static final String EVICTION_PROPERTY_NAME = "geode." + EVICTION_SCAN_ASYNC;
+  private static final String SEGMENTS_PROPERTY_NAME = "geode." + EVICTION_LIST_SEGMENTS;
 
   @Rule
-  public ClearSystemProperties clearProperties = new ClearSystemProperties(EVICTION_PROPERTY_NAME);
+  public ClearSystemProperties clearProperties =
+      new ClearSystemProperties(EVICTION_PROPERTY_NAME, SEGMENTS_PROPERTY_NAME);
 
   private EvictionListBuilder builder;
   private EvictionController controller;
@@ -52,6 +55,13 @@ public class EvictionListBuilderTest {
     assertThat(builder.create()).isInstanceOf(LIFOList.class);
   }
 
+  @Test
+  public void createsTinyLFUListWhenAlgorithmIsLfu() {
+    when(controller.getEvictionAlgorithm()).thenReturn(EvictionAlgorithm.LFU_ENTRY);
+
+    assertThat(builder.create()).isInstanceOf(TinyLFUList.class);
+  }
+
   @Test
   public void createsAsyncLruByDefault() {
 
@@ -74,4 +84,32 @@ public class EvictionListBuilderTest {
     assertThat(builder.create()).isInstanceOf(LRUListWithSyncSorting.class);
 
   }
+
+  @Test
+  public void createsStripedLruWhenSystemConfiguredWithSegments() {
+    System.setProperty(SEGMENTS_PROPERTY_NAME, "4");
+    builder = new EvictionListBuilder(controller);
+
+    EvictionList list = builder.create();
+
+    assertThat(list).isInstanceOf(StripedLRUList.class);
+    assertThat(((StripedLRUList) list).getSegmentCount()).isEqualTo(4);
+  }
+
+  @Test
+  public void createsUnstripedLruWhenSystemConfiguredWithOneSegment() {
+    System.setProperty(SEGMENTS_PROPERTY_NAME, "1");
+    builder = new EvictionListBuilder(controller);
+
+    assertThat(builder.create()).isInstanceOf(LRUListWithAsyncSorting.class);
+  }
+
+  @Test
+  public void createsLIFOListWhenAlgorithmIsLifoAndSegmentsConfigured() {
+    System.setProperty(SEGMENTS_PROPERTY_NAME, "4");
+    when(controller.getEvictionAlgorithm()).thenReturn(EvictionAlgorithm.LIFO_ENTRY);
+    builder = new EvictionListBuilder(controller);
+
+    assertThat(builder.create()).isInstanceOf(LIFOList.class);
+  }
 }
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.eviction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class FrequencySketchTest {
+
+  @Test
+  public void unseenKeyHasZeroFrequency() {
+    FrequencySketch sketch = new FrequencySketch(64);
+
+    assertThat(sketch.frequency("key")).isZero();
+  }
+
+  @Test
+  public void frequencyCountsIncrements() {
+    FrequencySketch sketch = new FrequencySketch(64);
+
+    for (int i = 0; i < 5; i++) {
+      sketch.increment("key");
+    }
+
+    assertThat(sketch.frequency("key")).isEqualTo(5);
+  }
+
+  @Test
+  public void frequencyIsLimitedToFifteen() {
+    FrequencySketch sketch = new FrequencySketch(64);
+
+    for (int i = 0; i < 100; i++) {
+      sketch.increment("key");
+    }
+
+    assertThat(sketch.frequency("key")).isEqualTo(15);
+  }
+
+  @Test
+  public void nullKeyIsCounted() {
+    FrequencySketch sketch = new FrequencySketch(64);
+
+    sketch.increment(null);
+
+    assertThat(sketch.frequency(null)).isOne();
+  }
+
+  @Test
+  public void capacityIsRoundedUpToPowerOfTwo() {
+    FrequencySketch sketch = new FrequencySketch(100);
+
+    assertThat(sketch.capacity()).isEqualTo(128);
+  }
+
+  @Test
+  public void ensureCapacityGrowsTableAndKeepsCounts() {
+    FrequencySketch sketch = new FrequencySketch(16);
+    for (int i = 0; i < 10; i++) {
+      for (int j = 0; j <= i; j++) {
+        sketch.increment(i);
+      }
+    }
+    int[] frequencies = new int[10];
+    for (int i = 0; i < 10; i++) {
+      frequencies[i] = sketch.frequency(i);
+    }
+
+    sketch.ensureCapacity(1000);
+
+    assertThat(sketch.capacity()).isEqualTo(1024);
+    for (int i = 0; i < 10; i++) {
+      assertThat(sketch.frequency(i)).isEqualTo(frequencies[i]);
+    }
+  }
+
+  @Test
+  public void ensureCapacityDoesNotShrinkTable() {
+    FrequencySketch sketch = new FrequencySketch(1024);
+    sketch.increment("key");
+
+    sketch.ensureCapacity(16);
+
+    assertThat(sketch.capacity()).isEqualTo(1024);
+    assertThat(sketch.frequency("key")).isOne();
+  }
+
+  @Test
+  public void countsAreHalvedAfterSampleSizeIncrements() {
+    FrequencySketch sketch = new FrequencySketch(16);
+    for (int i = 0; i < 8; i++) {
+      sketch.increment("hot");
+    }
+
+    for (int i = 0; i < 10 * 16; i++) {
+      sketch.increment(i);
+    }
+
+    assertThat(sketch.frequency("hot")).isLessThanOrEqualTo(4);
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.eviction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.internal.cache.BucketRegion;
+
+public class StripedLRUListTest {
+
+  private BucketRegion bucketRegion;
+  private EvictionCounters stats;
+  private EvictionController controller;
+
+  @Before
+  public void setup() {
+    bucketRegion = mock(BucketRegion.class);
+    stats = mock(EvictionCounters.class);
+    controller = mock(EvictionController.class);
+    when(controller.getCounters()).thenReturn(stats);
+  }
+
+  @Test
+  public void requiresAtLeastOneSegment() {
+    assertThatThrownBy(() -> new StripedLRUList(controller, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void evictingFromEmptyListReturnsNull() {
+    StripedLRUList list = new StripedLRUList(controller, 4);
+
+    assertThat(list.getEvictableEntry()).isNull();
+    assertThat(list.size()).isZero();
+  }
+
+  @Test
+  public void sizeIsSumOfAllSegments() {
+    StripedLRUList list = new StripedLRUList(controller, 4);
+
+    for (int i = 0; i < 100; i++) {
+      list.appendEntry(createNode());
+    }
+
+    assertThat(list.size()).isEqualTo(100);
+  }
+
+  @Test
+  public void appendingNodeTwiceDoesNotChangeSize() {
+    StripedLRUList list = new StripedLRUList(controller, 4);
+    EvictionNode node = createNode();
+
+    list.appendEntry(node);
+    list.appendEntry(node);
+
+    assertThat(list.size()).isOne();
+  }
+
+  @Test
+  public void destroyRemovesNodeFromItsSegment() {
+    StripedLRUList list = new StripedLRUList(controller, 4);
+    List<EvictionNode> nodes = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      EvictionNode node = createNode();
+      nodes.add(node);
+      list.appendEntry(node);
+    }
+
+    for (EvictionNode node : nodes) {
+      list.destroyEntry(node);
+      assertThat(node.next()).isNull();
+    }
+
+    assertThat(list.size()).isZero();
+    assertThat(list.getEvictableEntry()).isNull();
+  }
+
+  @Test
+  public void evictsEveryNodeFromAllSegments() {
+    StripedLRUList list = new StripedLRUList(controller, 4);
+    Set<EvictionNode> nodes = new HashSet<>();
+    for (int i = 0; i < 100; i++) {
+      EvictionNode node = createNode();
+      nodes.add(node);
+      list.appendEntry(node);
+    }
+
+    Set<EvictionNode> evicted = new HashSet<>();
+    EvictableEntry entry;
+    while ((entry = list.getEvictableEntry()) != null) {
+      evicted.add(entry);
+    }
+
+    assertThat(evicted).isEqualTo(nodes);
+    assertThat(list.size()).isZero();
+  }
+
+  @Test
+  public void doesNotEvictRecentlyUsedNodeBeforeOtherNodesInItsSegment() {
+    StripedLRUList list = new StripedLRUList(controller, 1);
+    EvictionNode recentlyUsedNode = createNode();
+    when(recentlyUsedNode.isRecentlyUsed()).thenReturn(true);
+    EvictionNode node = createNode();
+    list.appendEntry(recentlyUsedNode);
+    list.appendEntry(node);
+
+    assertThat(list.getEvictableEntry()).isSameAs(node);
+    verify(recentlyUsedNode).unsetRecentlyUsed();
+    assertThat(list.size()).isOne();
+  }
+
+  @Test
+  public void clearResetsAllSegmentsAndBucketCounter() {
+    StripedLRUList list = new StripedLRUList(controller, 4);
+    for (int i = 0; i < 100; i++) {
+      list.appendEntry(createNode());
+    }
+    when(bucketRegion.getCounter()).thenReturn(100L);
+
+    list.clear(null, bucketRegion);
+
+    assertThat(list.size()).isZero();
+    assertThat(list.getEvictableEntry()).isNull();
+    verify(stats).decrementCounter(100L);
+    verify(bucketRegion).resetCounter();
+  }
+
+  private EvictionNode createNode() {
+    EvictableEntry node = mock(EvictableEntry.class);
+    AtomicReference<EvictionNode> next = new AtomicReference<>();
+    AtomicReference<EvictionNode> previous = new AtomicReference<>();
+    doAnswer(invocation -> {
+      next.set(invocation.getArgument(0));
+      return null;
+    }).when(node).setNext(any());
+    doAnswer(invocation -> {
+      previous.set(invocation.getArgument(0));
+      return null;
+    }).when(node).setPrevious(any());
+    when(node.next()).thenAnswer(invocation -> next.get());
+    when(node.previous()).thenAnswer(invocation -> previous.get());
+    return node;
+  }
+}
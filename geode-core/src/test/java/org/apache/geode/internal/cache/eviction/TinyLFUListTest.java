@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.eviction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class TinyLFUListTest {
+
+  private EvictionController controller;
+
+  @Before
+  public void setup() {
+    EvictionCounters stats = mock(EvictionCounters.class);
+    controller = mock(EvictionController.class);
+    when(controller.getCounters()).thenReturn(stats);
+  }
+
+  @Test
+  public void evictingFromEmptyListReturnsNull() {
+    TinyLFUList list = new TinyLFUList(controller);
+
+    assertThat(list.getEvictableEntry()).isNull();
+    assertThat(list.size()).isZero();
+  }
+
+  @Test
+  public void evictsOnlyEntry() {
+    TinyLFUList list = new TinyLFUList(controller);
+    EvictableEntry node = createNode("key");
+    list.appendEntry(node);
+
+    assertThat(list.getEvictableEntry()).isSameAs(node);
+    assertThat(list.size()).isZero();
+  }
+
+  @Test
+  public void appendingEntryCountsItsKey() {
+    TinyLFUList list = new TinyLFUList(controller);
+    EvictableEntry node = createNode("key");
+
+    list.appendEntry(node);
+    list.destroyEntry(node);
+    list.appendEntry(node);
+
+    assertThat(list.frequency(node)).isEqualTo(2);
+  }
+
+  @Test
+  public void evictsLeastRecentlyUsedEntryWhenNewestEntryIsMoreFrequent() {
+    TinyLFUList list = new TinyLFUList(controller);
+    EvictableEntry oldest = createNode("oldest");
+    EvictableEntry newest = createNode("newest");
+    list.appendEntry(newest);
+    list.destroyEntry(newest);
+    list.appendEntry(oldest);
+    list.appendEntry(newest);
+
+    assertThat(list.getEvictableEntry()).isSameAs(oldest);
+    assertThat(list.size()).isOne();
+  }
+
+  @Test
+  public void evictsNewestEntryWhenItIsNotMoreFrequent() {
+    TinyLFUList list = new TinyLFUList(controller);
+    EvictableEntry oldest = createNode("oldest");
+    EvictableEntry middle = createNode("middle");
+    EvictableEntry newest = createNode("newest");
+    list.appendEntry(oldest);
+    list.appendEntry(middle);
+    list.appendEntry(newest);
+
+    assertThat(list.getEvictableEntry()).isSameAs(newest);
+    assertThat(list.size()).isEqualTo(2);
+    assertThat(list.getEvictableEntry()).isSameAs(middle);
+    assertThat(list.getEvictableEntry()).isSameAs(oldest);
+  }
+
+  @Test
+  public void scanOfNewKeysDoesNotEvictFrequentlyUsedEntries() {
+    TinyLFUList list = new TinyLFUList(controller);
+    EvictableEntry hot = createNode("hot");
+    list.appendEntry(hot);
+    when(hot.isRecentlyUsed()).thenReturn(true).thenReturn(false);
+    EvictableEntry cold = createNode("cold");
+    list.appendEntry(cold);
+    assertThat(list.getEvictableEntry()).isSameAs(cold);
+
+    for (int i = 0; i < 10; i++) {
+      list.appendEntry(createNode("scan" + i));
+      EvictableEntry evicted = list.getEvictableEntry();
+      assertThat(evicted).isNotSameAs(hot);
+    }
+    assertThat(list.size()).isOne();
+    assertThat(list.frequency(hot)).isEqualTo(2);
+  }
+
+  @Test
+  public void doesNotEvictNewestEntryInTransaction() {
+    TinyLFUList list = new TinyLFUList(controller);
+    EvictableEntry oldest = createNode("oldest");
+    EvictableEntry newest = createNode("newest");
+    when(newest.isInUseByTransaction()).thenReturn(true);
+    list.appendEntry(oldest);
+    list.appendEntry(newest);
+
+    assertThat(list.getEvictableEntry()).isSameAs(oldest);
+    assertThat(list.size()).isOne();
+  }
+
+  @Test
+  public void doesNotRelinkOldestEntryRemovedWhileEvicting() {
+    TinyLFUList list = new TinyLFUList(controller);
+    EvictableEntry oldest = createNode("oldest");
+    EvictableEntry newest = createNode("newest");
+    when(oldest.isRemoved()).thenReturn(true);
+    list.appendEntry(oldest);
+    list.appendEntry(newest);
+
+    assertThat(list.getEvictableEntry()).isSameAs(newest);
+    assertThat(list.size()).isZero();
+  }
+
+  @Test
+  public void doesNotRelinkOldestEntryThatJoinedTransactionWhileEvicting() {
+    TinyLFUList list = new TinyLFUList(controller);
+    EvictableEntry oldest = createNode("oldest");
+    EvictableEntry newest = createNode("newest");
+    when(oldest.isInUseByTransaction()).thenReturn(false).thenReturn(true);
+    list.appendEntry(oldest);
+    list.appendEntry(newest);
+
+    assertThat(list.getEvictableEntry()).isSameAs(newest);
+    assertThat(list.size()).isZero();
+  }
+
+  private EvictableEntry createNode(Object key) {
+    EvictableEntry node = mock(EvictableEntry.class, key.toString());
+    when(node.getKey()).thenReturn(key);
+    AtomicReference<EvictionNode> next = new AtomicReference<>();
+    AtomicReference<EvictionNode> previous = new AtomicReference<>();
+    doAnswer(invocation -> {
+      next.set(invocation.getArgument(0));
+      return null;
+    }).when(node).setNext(any());
+    doAnswer(invocation -> {
+      previous.set(invocation.getArgument(0));
+      return null;
+    }).when(node).setPrevious(any());
+    when(node.next()).thenAnswer(invocation -> next.get());
+    when(node.previous()).thenAnswer(invocation -> previous.get());
+    return node;
+  }
+}
@@ -15,28 +15,41 @@
 package org.apache.geode.internal.cache.tier.sockets;
 
 import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.MINUTES;
 import static org.apache.geode.cache.server.CacheServer.DEFAULT_MAXIMUM_TIME_BETWEEN_PINGS;
 import static org.apache.geode.cache.server.CacheServer.DEFAULT_SOCKET_BUFFER_SIZE;
 import static org.apache.geode.cache.server.CacheServer.DEFAULT_TCP_NO_DELAY;
 import static org.apache.geode.internal.cache.tier.sockets.AcceptorImpl.MINIMUM_MAX_CONNECTIONS;
+import static org.apache.geode.internal.cache.tier.sockets.Handshake.REPLY_REFUSED;
+import static org.apache.geode.internal.lang.SystemProperty.GEMFIRE_PREFIX;
 import static org.apache.geode.internal.statistics.StatisticsClockFactory.disabledClock;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyByte;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.quality.Strictness.STRICT_STUBS;
 
 import java.net.ServerSocket;
+import java.net.Socket;
 import java.net.SocketAddress;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
 
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.contrib.java.lang.system.RestoreSystemProperties;
 import org.junit.experimental.categories.Category;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -48,6 +61,7 @@ import org.apache.geode.distributed.internal.DistributionConfig;
 import org.apache.geode.distributed.internal.InternalDistributedSystem;
 import org.apache.geode.internal.cache.InternalCache;
 import org.apache.geode.internal.cache.tier.Acceptor;
+import org.apache.geode.internal.logging.CoreLoggingExecutors;
 import org.apache.geode.internal.net.SocketCreator;
 import org.apache.geode.internal.security.SecurityService;
 import org.apache.geode.internal.statistics.StatisticsManager;
@@ -59,6 +73,9 @@ public class AcceptorImplTest {
   @Rule
   public MockitoRule mockitoRule = MockitoJUnit.rule().strictness(STRICT_STUBS);
 
+  @Rule
+  public RestoreSystemProperties restoreSystemProperties = new RestoreSystemProperties();
+
   private InternalCache cache;
   private CacheClientNotifier cacheClientNotifier;
   private ClientHealthMonitor clientHealthMonitor;
@@ -118,4 +135,46 @@ public class AcceptorImplTest {
 
     assertThat(acceptor.isGatewayReceiver()).isTrue();
   }
+
+  @Test
+  public void executeServerConnectionRefusesHandshakeWhenVirtualThreadPoolIsExhausted()
+      throws Exception {
+    assumeTrue(CoreLoggingExecutors.isVirtualThreadSupported());
+    System.setProperty(GEMFIRE_PREFIX + "USE_VIRTUAL_THREADS", "true");
+    when(system.getStatisticsManager()).thenReturn(statisticsManager);
+    when(statisticsManager.createType(any(), any(), any())).thenReturn(mock(StatisticsType.class));
+    when(statisticsManager.createAtomicStatistics(any(), any())).thenReturn(mock(Statistics.class));
+
+    AcceptorImpl acceptor = spy(new AcceptorImpl(0, null, false, DEFAULT_SOCKET_BUFFER_SIZE,
+        DEFAULT_MAXIMUM_TIME_BETWEEN_PINGS, cache, MINIMUM_MAX_CONNECTIONS, 0,
+        CacheServer.DEFAULT_MAXIMUM_MESSAGE_COUNT, CacheServer.DEFAULT_MESSAGE_TIME_TO_LIVE, null,
+        null, DEFAULT_TCP_NO_DELAY, 1000, securityService,
+        () -> socketCreator, (a, b, c, d, e, f, g, h, i) -> cacheClientNotifier,
+        (a, b, c) -> clientHealthMonitor, false, emptyList(), disabledClock()));
+    doNothing().when(acceptor).refuseHandshake(any(), any(), anyByte());
+
+    CountDownLatch started = new CountDownLatch(MINIMUM_MAX_CONNECTIONS);
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      for (int i = 0; i < MINIMUM_MAX_CONNECTIONS; i++) {
+        ServerConnection serverConnection = mock(ServerConnection.class);
+        doAnswer(invocation -> {
+          started.countDown();
+          release.await();
+          return null;
+        }).when(serverConnection).run();
+        acceptor.executeServerConnection(serverConnection, mock(Socket.class));
+      }
+      assertThat(started.await(1, MINUTES)).isTrue();
+
+      ServerConnection rejectedConnection = mock(ServerConnection.class);
+      acceptor.executeServerConnection(rejectedConnection, mock(Socket.class));
+
+      verify(acceptor).refuseHandshake(any(),
+          eq("exceeded max-connections " + MINIMUM_MAX_CONNECTIONS), eq(REPLY_REFUSED));
+      verify(rejectedConnection).cleanup();
+    } finally {
+      release.countDown();
+    }
+  }
 }
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.apache.geode.internal.cache.tier.sockets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import org.apache.geode.cache.query.internal.DefaultQuery;
+import org.apache.geode.cache.query.internal.ResultsBag;
+import org.apache.geode.cache.query.internal.types.ObjectTypeImpl;
+import org.apache.geode.internal.cache.tier.CachedRegionHelper;
+import org.apache.geode.internal.cache.tier.sockets.command.Query;
+import org.apache.geode.internal.security.SecurityService;
+
+public class BaseCommandQueryTest {
+
+  private final BaseCommandQuery baseCommandQuery = (BaseCommandQuery) Query.getCommand();
+
+  private DefaultQuery query;
+  private Message message;
+  private ServerConnection serverConnection;
+  private ChunkedMessage queryResponseMessage;
+  private SecurityService securityService;
+
+  @Before
+  public void setUp() {
+    query = mock(DefaultQuery.class);
+    message = mock(Message.class);
+    serverConnection = mock(ServerConnection.class);
+    queryResponseMessage = mock(ChunkedMessage.class);
+    securityService = mock(SecurityService.class);
+    when(serverConnection.getQueryResponseMessage()).thenReturn(queryResponseMessage);
+    when(serverConnection.getCacheServerStats()).thenReturn(mock(CacheServerStats.class));
+    when(serverConnection.getCachedRegionHelper()).thenReturn(mock(CachedRegionHelper.class));
+  }
+
+  @Test
+  public void resultsAreSentInChunksWithOnlyTheLastOneFlaggedAsLast() throws Exception {
+    int numberOfResults = 2 * BaseCommand.MAXIMUM_CHUNK_SIZE + 1;
+    ResultsBag results = new ResultsBag();
+    results.setElementType(new ObjectTypeImpl(Integer.class));
+    for (int i = 0; i < numberOfResults; i++) {
+      results.add(i);
+    }
+    when(query.execute()).thenReturn(results);
+
+    boolean processed = baseCommandQuery.processQuery(message, query, "query",
+        Collections.emptySet(), 0, null, null, serverConnection, true, securityService);
+
+    assertThat(processed).isTrue();
+
+    verify(queryResponseMessage, times(3)).sendChunk(serverConnection);
+    InOrder inOrder = Mockito.inOrder(queryResponseMessage);
+    inOrder.verify(queryResponseMessage, times(2)).setLastChunk(false);
+    inOrder.verify(queryResponseMessage).setLastChunk(true);
+  }
+
+  @Test
+  public void emptyResultsAreSentAsSingleLastChunk() throws Exception {
+    ResultsBag results = new ResultsBag();
+    results.setElementType(new ObjectTypeImpl(Integer.class));
+    when(query.execute()).thenReturn(results);
+
+    boolean processed = baseCommandQuery.processQuery(message, query, "query",
+        Collections.emptySet(), 0, null, null, serverConnection, true, securityService);
+
+    assertThat(processed).isTrue();
+
+    verify(queryResponseMessage, times(1)).sendChunk(serverConnection);
+    verify(queryResponseMessage).setLastChunk(true);
+  }
+}
@@ -17,6 +17,7 @@ package org.apache.geode.internal.cache.tier.sockets;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -24,6 +25,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
 import java.io.EOFException;
 import java.io.OutputStream;
 import java.nio.BufferOverflowException;
@@ -34,6 +36,8 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
 import org.apache.geode.internal.HeapDataOutputStream;
+import org.apache.geode.internal.offheap.AddressableMemoryManager;
+import org.apache.geode.internal.offheap.StoredObject;
 import org.apache.geode.test.junit.categories.ClientServerTest;
 
 @Category({ClientServerTest.class})
@@ -181,4 +185,115 @@ public class PartTest {
     verify(heapDataOutputStream, times(1)).rewind();
   }
 
+  @Test
+  public void writeToHeapByteBufferCopiesStoredObjectWithoutDirectByteBuffer() {
+    byte[] data = createData(100);
+    long address = allocate(data);
+    try {
+      Part part = createStoredObjectPart(address, data.length);
+      ByteBuffer byteBuffer = ByteBuffer.allocate(200);
+      byteBuffer.put((byte) -1);
+
+      part.writeTo(byteBuffer);
+
+      assertThat(byteBuffer.position()).isEqualTo(1 + data.length);
+      assertThat(copyOfRange(byteBuffer, 1, data.length)).isEqualTo(data);
+    } finally {
+      AddressableMemoryManager.free(address);
+    }
+  }
+
+  @Test
+  public void writeToDirectByteBufferCopiesStoredObjectWithoutDirectByteBuffer() {
+    byte[] data = createData(100);
+    long address = allocate(data);
+    try {
+      Part part = createStoredObjectPart(address, data.length);
+      ByteBuffer byteBuffer = ByteBuffer.allocateDirect(200);
+      byteBuffer.put((byte) -1);
+
+      part.writeTo(byteBuffer);
+
+      assertThat(byteBuffer.position()).isEqualTo(1 + data.length);
+      assertThat(copyOfRange(byteBuffer, 1, data.length)).isEqualTo(data);
+    } finally {
+      AddressableMemoryManager.free(address);
+    }
+  }
+
+  @Test
+  public void writeToSocketChannelCopiesStoredObjectWithoutDirectByteBuffer() throws Exception {
+    byte[] data = createData(1000);
+    long address = allocate(data);
+    try {
+      Part part = createStoredObjectPart(address, data.length);
+      ByteArrayOutputStream written = new ByteArrayOutputStream();
+      SocketChannel socketChannel = mock(SocketChannel.class);
+      when(socketChannel.write(any(ByteBuffer.class))).thenAnswer(invocation -> {
+        ByteBuffer buffer = invocation.getArgument(0);
+        int length = buffer.remaining();
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        written.write(bytes);
+        return length;
+      });
+
+      part.writeTo(socketChannel, ByteBuffer.allocateDirect(64));
+
+      assertThat(written.toByteArray()).isEqualTo(data);
+    } finally {
+      AddressableMemoryManager.free(address);
+    }
+  }
+
+  @Test
+  public void writeToOutputStreamCopiesStoredObjectWithoutDirectByteBuffer() throws Exception {
+    byte[] data = createData(1000);
+    long address = allocate(data);
+    try {
+      Part part = createStoredObjectPart(address, data.length);
+      ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+      ByteBuffer byteBuffer = ByteBuffer.allocate(64);
+
+      part.writeTo(outputStream, byteBuffer);
+      outputStream.write(byteBuffer.array(), 0, byteBuffer.position());
+
+      assertThat(outputStream.toByteArray()).isEqualTo(data);
+    } finally {
+      AddressableMemoryManager.free(address);
+    }
+  }
+
+  private static byte[] createData(int length) {
+    byte[] data = new byte[length];
+    for (int i = 0; i < length; i++) {
+      data[i] = (byte) i;
+    }
+    return data;
+  }
+
+  private static long allocate(byte[] data) {
+    long address = AddressableMemoryManager.allocate(data.length);
+    AddressableMemoryManager.writeBytes(address, data, 0, data.length);
+    return address;
+  }
+
+  private static Part createStoredObjectPart(long address, int length) {
+    // a null direct ByteBuffer makes the part copy the off-heap memory
+    StoredObject storedObject = mock(StoredObject.class);
+    when(storedObject.hasRefCount()).thenReturn(true);
+    when(storedObject.getDataSize()).thenReturn(length);
+    when(storedObject.getAddressForReadingData(0, length)).thenReturn(address);
+    Part part = new Part();
+    part.setPartState(storedObject, false);
+    return part;
+  }
+
+  private static byte[] copyOfRange(ByteBuffer byteBuffer, int offset, int length) {
+    byte[] bytes = new byte[length];
+    ByteBuffer duplicate = byteBuffer.duplicate();
+    duplicate.position(offset);
+    duplicate.get(bytes);
+    return bytes;
+  }
 }
@@ -17,16 +17,23 @@ package org.apache.geode.internal.logging;
 import static java.util.concurrent.TimeUnit.MINUTES;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -578,4 +585,105 @@ public class CoreLoggingExecutorsTest {
     assertThat(thread).isInstanceOf(LoggingThread.class);
     assertThat(thread.getName()).contains(threadName);
   }
+
+  @Test
+  public void newVirtualThreadPerTaskExecutorRunsTaskWithWrapperOnNamedThread() throws Exception {
+    assumeTrue(CoreLoggingExecutors.isVirtualThreadSupported());
+    String threadName = "virtual";
+    AtomicReference<Thread> initializedThread = new AtomicReference<>();
+    AtomicReference<Thread> wrappedThread = new AtomicReference<>();
+    AtomicReference<Thread> taskThread = new AtomicReference<>();
+
+    ExecutorService executorService = CoreLoggingExecutors.newVirtualThreadPerTaskExecutor(
+        threadName, initializedThread::set, command -> {
+          wrappedThread.set(Thread.currentThread());
+          command.run();
+        });
+    try {
+      executorService.submit(() -> taskThread.set(Thread.currentThread())).get(1, MINUTES);
+    } finally {
+      executorService.shutdown();
+    }
+
+    assertThat(taskThread.get()).isSameAs(wrappedThread.get()).isSameAs(initializedThread.get());
+    assertThat(taskThread.get().getName()).contains(threadName);
+    assertThat(taskThread.get().isDaemon()).isTrue();
+  }
+
+  @Test
+  public void newVirtualThreadPerTaskExecutorThrowsIfVirtualThreadsAreNotSupported() {
+    assumeFalse(CoreLoggingExecutors.isVirtualThreadSupported());
+
+    assertThatThrownBy(
+        () -> CoreLoggingExecutors.newVirtualThreadPerTaskExecutor("virtual", null, null))
+            .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  public void newVirtualThreadPoolWithSynchronousFeedRecordsStatsAndMonitorsThreads()
+      throws Exception {
+    assumeTrue(CoreLoggingExecutors.isVirtualThreadSupported());
+    int poolSize = 5;
+    String threadName = "virtual";
+    AtomicReference<Thread> taskThread = new AtomicReference<>();
+
+    ExecutorService executorService = CoreLoggingExecutors.newVirtualThreadPoolWithSynchronousFeed(
+        poolSize, threadName, null, null, poolStatHelper, threadsMonitoring);
+    try {
+      executorService.submit(() -> taskThread.set(Thread.currentThread())).get(1, MINUTES);
+    } finally {
+      executorService.shutdown();
+    }
+    assertThat(executorService.awaitTermination(1, MINUTES)).isTrue();
+
+    assertThat(executorService).isInstanceOf(PooledExecutorWithDMStats.class);
+    PooledExecutorWithDMStats executor = (PooledExecutorWithDMStats) executorService;
+    assertThat(executor.getMaximumPoolSize()).isEqualTo(poolSize);
+    assertThat(executor.getQueue()).isInstanceOf(SynchronousQueue.class);
+    assertThat(executor.getRejectedExecutionHandler())
+        .isInstanceOf(ThreadPoolExecutor.AbortPolicy.class);
+    assertThat(taskThread.get().getName()).contains(threadName);
+    verify(poolStatHelper).startJob();
+    verify(poolStatHelper).endJob();
+    verify(threadsMonitoring).startMonitor(ThreadsMonitoring.Mode.PooledExecutor);
+    verify(threadsMonitoring).endMonitor();
+  }
+
+  @Test
+  public void newVirtualThreadPoolWithSynchronousFeedRejectsTaskWhenAllThreadsAreBusy()
+      throws Exception {
+    assumeTrue(CoreLoggingExecutors.isVirtualThreadSupported());
+    int poolSize = 2;
+    CountDownLatch started = new CountDownLatch(poolSize);
+    CountDownLatch release = new CountDownLatch(1);
+    Runnable blockingTask = () -> {
+      started.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    };
+
+    ExecutorService executorService = CoreLoggingExecutors.newVirtualThreadPoolWithSynchronousFeed(
+        poolSize, "virtual", null, null, poolStatHelper, threadsMonitoring);
+    try {
+      for (int i = 0; i < poolSize; i++) {
+        executorService.execute(blockingTask);
+      }
+      assertThat(started.await(1, MINUTES)).isTrue();
+
+      assertThatThrownBy(() -> executorService.execute(runnable))
+          .isInstanceOf(RejectedExecutionException.class);
+    } finally {
+      release.countDown();
+      executorService.shutdown();
+    }
+    assertThat(executorService.awaitTermination(1, MINUTES)).isTrue();
+  }
+
+  @Test
+  public void useVirtualThreadsIsFalseByDefault() {
+    assertThat(CoreLoggingExecutors.useVirtualThreads()).isFalse();
+  }
 }
@@ -18,7 +18,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -73,6 +75,11 @@ public class FreeListManagerTest {
     freeListManager = createFreeListManager(ma, new Slab[] {slab});
   }
 
+  private void setUpSingleSlabManagerWithThreadCache(int threadCacheSize) {
+    Slab slab = new SlabImpl(DEFAULT_SLAB_SIZE);
+    freeListManager = new TestableFreeListManager(ma, new Slab[] {slab}, 0, threadCacheSize);
+  }
+
   @Test
   public void usedMemoryIsZeroOnDefault() {
     setUpSingleSlabManager();
@@ -205,6 +212,159 @@ public class FreeListManagerTest {
         .isEqualTo(computeExpectedSize(dataSize) + computeExpectedSize(dataSize2));
   }
 
+  @Test
+  public void freedTinyChunkIsReallocatedFromThreadCache() {
+    setUpSingleSlabManagerWithThreadCache(4);
+    int dataSize = 10;
+
+    OffHeapStoredObject c = freeListManager.allocate(dataSize);
+    long address = c.getAddress();
+    ReferenceCounter.release(address, freeListManager);
+    c = freeListManager.allocate(dataSize);
+
+    assertThat(c.getAddress()).isEqualTo(address);
+    validateChunkSizes(c, dataSize);
+    verify(stats).incThreadCacheAllocations();
+  }
+
+  @Test
+  public void freeTinyMemoryIncludesThreadCachedChunks() {
+    setUpSingleSlabManagerWithThreadCache(4);
+    int dataSize = 10;
+
+    OffHeapStoredObject c = freeListManager.allocate(dataSize);
+    ReferenceCounter.release(c.getAddress(), freeListManager);
+
+    assertThat(freeListManager.getFreeTinyMemory()).isEqualTo(computeExpectedSize(dataSize));
+    assertThat(freeListManager.getFreedChunks()).isOne();
+  }
+
+  @Test
+  public void fullThreadCacheReturnsBatchToSharedFreeList() {
+    setUpSingleSlabManagerWithThreadCache(2);
+    int dataSize = 10;
+    OffHeapStoredObject c1 = freeListManager.allocate(dataSize);
+    OffHeapStoredObject c2 = freeListManager.allocate(dataSize);
+    OffHeapStoredObject c3 = freeListManager.allocate(dataSize);
+
+    ReferenceCounter.release(c1.getAddress(), freeListManager);
+    ReferenceCounter.release(c2.getAddress(), freeListManager);
+    ReferenceCounter.release(c3.getAddress(), freeListManager);
+
+    verify(stats).incThreadCacheFlushes();
+    assertThat(freeListManager.getFreedChunks()).isEqualTo(3);
+    assertThat(freeListManager.getFreeTinyMemory()).isEqualTo(3 * computeExpectedSize(dataSize));
+  }
+
+  @Test
+  public void chunkCachedByAnotherThreadIsAllocatedAfterFlush() throws Exception {
+    setUpSingleSlabManagerWithThreadCache(4);
+    freeListManager.deadThreadCacheCheckIntervalNanos = Long.MAX_VALUE;
+    int dataSize = 10;
+    OffHeapStoredObject c = freeListManager.allocate(dataSize);
+    long address = c.getAddress();
+    Thread freeingThread =
+        new Thread(() -> ReferenceCounter.release(address, freeListManager));
+    freeingThread.start();
+    freeingThread.join();
+
+    assertThat(freeListManager.allocate(dataSize).getAddress()).isNotEqualTo(address);
+    freeListManager.flushThreadCaches();
+
+    assertThat(freeListManager.allocate(dataSize).getAddress()).isEqualTo(address);
+  }
+
+  @Test
+  public void chunkCachedByTerminatedThreadIsAllocatedAgain() throws Exception {
+    setUpSingleSlabManagerWithThreadCache(4);
+    freeListManager.deadThreadCacheCheckIntervalNanos = 0;
+    int dataSize = 10;
+    OffHeapStoredObject c = freeListManager.allocate(dataSize);
+    long address = c.getAddress();
+    Thread freeingThread =
+        new Thread(() -> ReferenceCounter.release(address, freeListManager));
+    freeingThread.start();
+    freeingThread.join();
+
+    assertThat(freeListManager.allocate(dataSize).getAddress()).isEqualTo(address);
+    assertThat(freeListManager.getFreeTinyMemory()).isZero();
+  }
+
+  @Test
+  public void defragmentIncludesThreadCachedChunks() {
+    setUpSingleSlabManagerWithThreadCache(4);
+    Fragment originalFragment = freeListManager.getFragmentList().get(0);
+    OffHeapStoredObject c = freeListManager.allocate(16);
+    ReferenceCounter.release(c.getAddress(), freeListManager);
+    freeListManager.firstDefragmentation = false;
+
+    assertThat(freeListManager.defragment(1)).isTrue();
+
+    assertThat(freeListManager.getFragmentList()).hasSize(1);
+    assertThat(freeListManager.getFragmentList().get(0).getSize())
+        .isEqualTo(originalFragment.getSize());
+    assertThat(freeListManager.getFreedChunks()).isZero();
+  }
+
+  @Test
+  public void defragmentIfFragmentedDoesNothingWhenFreeMemoryIsInFragments() {
+    setUpSingleSlabManager();
+    OffHeapStoredObject c = freeListManager.allocate(16);
+    ReferenceCounter.release(c.getAddress(), freeListManager);
+
+    assertThat(freeListManager.defragmentIfFragmented(10)).isFalse();
+
+    verify(stats, never()).incBackgroundDefragmentations();
+  }
+
+  @Test
+  public void defragmentIfFragmentedDefragmentsWhenFreeMemoryIsInFreeLists() {
+    setUpSingleSlabManager(1024);
+    Fragment originalFragment = freeListManager.getFragmentList().get(0);
+    OffHeapStoredObject c1 = freeListManager.allocate(512 - 8);
+    OffHeapStoredObject c2 = freeListManager.allocate(512 - 8);
+    ReferenceCounter.release(c1.getAddress(), freeListManager);
+    ReferenceCounter.release(c2.getAddress(), freeListManager);
+    freeListManager.firstDefragmentation = false;
+
+    assertThat(freeListManager.defragmentIfFragmented(10)).isTrue();
+
+    verify(stats).incBackgroundDefragmentations();
+    assertThat(freeListManager.getFragmentList()).hasSize(1);
+    assertThat(freeListManager.getFragmentList().get(0).getSize())
+        .isEqualTo(originalFragment.getSize());
+    assertThat(freeListManager.isFragmented(10)).isFalse();
+  }
+
+  @Test
+  public void defragmentIfFragmentedBacksOffWhenLargestFreeChunkDoesNotGrow() {
+    setUpSingleSlabManager(1024);
+    OffHeapStoredObject c1 = freeListManager.allocate(256 - 8);
+    freeListManager.allocate(256 - 8);
+    OffHeapStoredObject c3 = freeListManager.allocate(256 - 8);
+    freeListManager.allocate(256 - 8);
+    ReferenceCounter.release(c1.getAddress(), freeListManager);
+    ReferenceCounter.release(c3.getAddress(), freeListManager);
+    freeListManager.firstDefragmentation = false;
+
+    // the freed chunks are not next to each other so defragmenting does not combine them
+    assertThat(freeListManager.defragmentIfFragmented(10)).isTrue();
+    assertThat(freeListManager.getFragmentList()).hasSize(2);
+
+    OffHeapStoredObject c5 = freeListManager.allocate(256 - 8);
+    OffHeapStoredObject c6 = freeListManager.allocate(256 - 8);
+    ReferenceCounter.release(c5.getAddress(), freeListManager);
+    ReferenceCounter.release(c6.getAddress(), freeListManager);
+
+    assertThat(freeListManager.isFragmented(10)).isTrue();
+    assertThat(freeListManager.defragmentIfFragmented(10)).isFalse();
+    assertThat(freeListManager.defragmentIfFragmented(10)).isTrue();
+    assertThat(freeListManager.defragmentIfFragmented(10)).isFalse();
+    assertThat(freeListManager.defragmentIfFragmented(10)).isFalse();
+
+    verify(stats, times(2)).incBackgroundDefragmentations();
+  }
+
   @Test
   public void freeHugeMemoryDefault() {
     setUpSingleSlabManager();
@@ -917,6 +1077,7 @@ public class FreeListManagerTest {
   private static class TestableFreeListManager extends FreeListManager {
     private boolean firstTime = true;
     private boolean firstDefragmentation = true;
+    private long deadThreadCacheCheckIntervalNanos = -1;
     private final int maxCombine;
 
     public TestableFreeListManager(MemoryAllocatorImpl ma, Slab[] slabs) {
@@ -928,11 +1089,25 @@ public class FreeListManagerTest {
       this.maxCombine = maxCombine;
     }
 
+    public TestableFreeListManager(MemoryAllocatorImpl ma, Slab[] slabs, int maxCombine,
+        int threadCacheSize) {
+      super(ma, slabs, threadCacheSize);
+      this.maxCombine = maxCombine;
+    }
+
     @Override
     protected Fragment createFragment(long addr, int size) {
       return new TestableFragment(addr, size);
     }
 
+    @Override
+    protected long getDeadThreadCacheCheckIntervalNanos() {
+      if (deadThreadCacheCheckIntervalNanos >= 0) {
+        return deadThreadCacheCheckIntervalNanos;
+      }
+      return super.getDeadThreadCacheCheckIntervalNanos();
+    }
+
     @Override
     protected OffHeapStoredObjectAddressStack createFreeListForEmptySlot(
         AtomicReferenceArray<OffHeapStoredObjectAddressStack> freeLists, int idx) {
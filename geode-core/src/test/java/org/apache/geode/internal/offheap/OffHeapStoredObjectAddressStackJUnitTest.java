@@ -278,4 +278,65 @@ public class OffHeapStoredObjectAddressStackJUnitTest {
       MemoryAllocatorImpl.freeOffHeapMemory();
     }
   }
+
+  @Test
+  public void defaultStackReturnsZeroFromPollChain() {
+    OffHeapStoredObjectAddressStack stack = new OffHeapStoredObjectAddressStack();
+    assertEquals(0L, stack.pollChain(10));
+  }
+
+  @Test
+  public void pollChainRemovesAtMostMaxCountAddresses() {
+    SlabImpl slab = new SlabImpl(1024);
+    try {
+      MemoryAllocatorImpl ma =
+          MemoryAllocatorImpl.createForUnitTest(new NullOutOfOffHeapMemoryListener(),
+              new NullOffHeapMemoryStats(), new SlabImpl[] {slab});
+      long chunk1 = ((OffHeapStoredObject) ma.allocate(100)).getAddress();
+      long chunk2 = ((OffHeapStoredObject) ma.allocate(100)).getAddress();
+      long chunk3 = ((OffHeapStoredObject) ma.allocate(100)).getAddress();
+      OffHeapStoredObjectAddressStack stack = new OffHeapStoredObjectAddressStack();
+      stack.offer(chunk1);
+      stack.offer(chunk2);
+      stack.offer(chunk3);
+
+      long chain = stack.pollChain(2);
+
+      assertEquals(chunk3, chain);
+      assertEquals(chunk2, OffHeapStoredObject.getNext(chain));
+      assertEquals(0L, OffHeapStoredObject.getNext(chunk2));
+      assertEquals(1, stack.size());
+      assertEquals(chunk1, stack.poll());
+      assertEquals(true, stack.isEmpty());
+    } finally {
+      MemoryAllocatorImpl.freeOffHeapMemory();
+    }
+  }
+
+  @Test
+  public void offerChainAddsEveryAddressInChain() {
+    SlabImpl slab = new SlabImpl(1024);
+    try {
+      MemoryAllocatorImpl ma =
+          MemoryAllocatorImpl.createForUnitTest(new NullOutOfOffHeapMemoryListener(),
+              new NullOffHeapMemoryStats(), new SlabImpl[] {slab});
+      long chunk1 = ((OffHeapStoredObject) ma.allocate(100)).getAddress();
+      long chunk2 = ((OffHeapStoredObject) ma.allocate(100)).getAddress();
+      long chunk3 = ((OffHeapStoredObject) ma.allocate(100)).getAddress();
+      OffHeapStoredObjectAddressStack stack = new OffHeapStoredObjectAddressStack();
+      stack.offer(chunk1);
+      OffHeapStoredObject.setNext(chunk2, chunk3);
+      OffHeapStoredObject.setNext(chunk3, 0L);
+
+      stack.offerChain(chunk2);
+
+      assertEquals(3, stack.size());
+      assertEquals(chunk2, stack.poll());
+      assertEquals(chunk3, stack.poll());
+      assertEquals(chunk1, stack.poll());
+      assertEquals(0L, stack.poll());
+    } finally {
+      MemoryAllocatorImpl.freeOffHeapMemory();
+    }
+  }
 }
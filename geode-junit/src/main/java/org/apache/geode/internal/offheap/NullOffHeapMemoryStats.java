@@ -129,6 +129,30 @@ public class NullOffHeapMemoryStats implements OffHeapMemoryStats {
     return 0;
   }
 
+  @Override
+  public void incBackgroundDefragmentations() {}
+
+  @Override
+  public int getBackgroundDefragmentations() {
+    return 0;
+  }
+
+  @Override
+  public void incThreadCacheAllocations() {}
+
+  @Override
+  public long getThreadCacheAllocations() {
+    return 0;
+  }
+
+  @Override
+  public void incThreadCacheFlushes() {}
+
+  @Override
+  public long getThreadCacheFlushes() {
+    return 0;
+  }
+
   @Override
   public void close() {
     isClosed = true;
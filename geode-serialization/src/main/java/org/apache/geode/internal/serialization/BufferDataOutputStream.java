@@ -46,6 +46,12 @@ public class BufferDataOutputStream extends OutputStream implements VersionedDat
   protected static final boolean ASCII_STRINGS =
       Boolean.getBoolean("gemfire.ASCII_STRINGS");
   public static final int SMALLEST_CHUNK_SIZE = 32;
+  /**
+   * The largest chunk allocated to hold the rest of a large byte[] or ByteBuffer that is copied into
+   * this stream, unless the minimum chunk size is larger. Growing by bounded chunks keeps a multi-MB
+   * value from needing one huge allocation, which G1 would have to make as a humongous object.
+   */
+  public static final int LARGEST_COPY_CHUNK_SIZE = 256 * 1024;
   protected int MIN_CHUNK_SIZE;
   protected LinkedList<ByteBuffer> chunks = null;
   protected int size = 0;
@@ -241,11 +247,12 @@ public class BufferDataOutputStream extends OutputStream implements VersionedDat
       addToChunks(source, offset, len);
     } else {
       int remainingSpace = buffer.capacity() - buffer.position();
-      if (remainingSpace < len) {
+      while (remainingSpace < len) {
         buffer.put(source, offset, remainingSpace);
         offset += remainingSpace;
         len -= remainingSpace;
-        ensureCapacity(len);
+        expand(Math.min(len, LARGEST_COPY_CHUNK_SIZE));
+        remainingSpace = buffer.capacity() - buffer.position();
       }
       buffer.put(source, offset, len);
     }
@@ -920,12 +927,14 @@ public class BufferDataOutputStream extends OutputStream implements VersionedDat
       addToChunks(bb);
     } else {
       int remainingSpace = buffer.remaining();
-      if (remainingSpace < remaining) {
+      while (remainingSpace < remaining) {
         int oldLimit = bb.limit();
         bb.limit(bb.position() + remainingSpace);
         buffer.put(bb);
         bb.limit(oldLimit);
-        ensureCapacity(bb.remaining());
+        remaining = bb.remaining();
+        expand(Math.min(remaining, LARGEST_COPY_CHUNK_SIZE));
+        remainingSpace = buffer.remaining();
       }
       buffer.put(bb);
     }
@@ -14,7 +14,9 @@
  */
 package org.apache.geode.internal.serialization;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.nio.ByteBuffer;
 
@@ -127,4 +129,42 @@ public class BufferDataOutputStreamJUnitTest {
     ByteBuffer expected = ByteBuffer.wrap(expectedBytes);
     assertEquals(expected, tmp);
   }
+
+  @Test
+  public void testLargeByteArrayIsCopiedIntoBoundedChunks() {
+    BufferDataOutputStream out = new BufferDataOutputStream(64, KnownVersion.CURRENT);
+    byte[] bytes = createLargeBytes();
+
+    out.write(bytes, 0, bytes.length);
+
+    assertChunksAreBounded(out);
+    assertArrayEquals(bytes, out.toByteArray());
+  }
+
+  @Test
+  public void testLargeByteBufferIsCopiedIntoBoundedChunks() {
+    BufferDataOutputStream out = new BufferDataOutputStream(64, KnownVersion.CURRENT);
+    byte[] bytes = createLargeBytes();
+
+    out.write(ByteBuffer.wrap(bytes));
+
+    assertChunksAreBounded(out);
+    assertArrayEquals(bytes, out.toByteArray());
+  }
+
+  private static byte[] createLargeBytes() {
+    byte[] bytes = new byte[3 * BufferDataOutputStream.LARGEST_COPY_CHUNK_SIZE + 5];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) i;
+    }
+    return bytes;
+  }
+
+  private static void assertChunksAreBounded(BufferDataOutputStream out) {
+    assertEquals(3, out.chunks.size());
+    for (ByteBuffer chunk : out.chunks) {
+      assertTrue(chunk.capacity() <= BufferDataOutputStream.LARGEST_COPY_CHUNK_SIZE);
+    }
+    assertTrue(out.buffer.capacity() <= BufferDataOutputStream.LARGEST_COPY_CHUNK_SIZE);
+  }
 }
@@ -15,6 +15,10 @@
 
 package org.apache.geode.unsafe.internal.sun.nio.ch;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
 /**
  * Provides access to methods on non-SDK class {@link sun.nio.ch.DirectBuffer}.
  */
@@ -33,4 +37,44 @@ public interface DirectBuffer {
     return null;
   }
 
+  /**
+   * Frees the memory of a direct or memory mapped buffer now instead of when the buffer is garbage
+   * collected. The buffer must not be accessed afterwards. Slices and duplicates do not own their
+   * memory and are left alone, as are all buffers on JVMs that do not allow this.
+   *
+   * @param object buffer to free
+   * @return true if the memory was freed
+   */
+  static boolean clean(final Object object) {
+    if (!(object instanceof sun.nio.ch.DirectBuffer)
+        || ((sun.nio.ch.DirectBuffer) object).attachment() != null) {
+      return false;
+    }
+    try {
+      final Field field = sun.misc.Unsafe.class.getDeclaredField("theUnsafe");
+      field.setAccessible(true);
+      final Object unsafe = field.get(null);
+      final Method invokeCleaner;
+      try {
+        invokeCleaner = sun.misc.Unsafe.class.getMethod("invokeCleaner", ByteBuffer.class);
+      } catch (NoSuchMethodException e) {
+        // before Java 9 the cleaner is only reachable through the buffer itself
+        final Method cleanerMethod = object.getClass().getMethod("cleaner");
+        cleanerMethod.setAccessible(true);
+        final Object cleaner = cleanerMethod.invoke(object);
+        if (cleaner == null) {
+          return false;
+        }
+        final Method clean = cleaner.getClass().getMethod("clean");
+        clean.setAccessible(true);
+        clean.invoke(cleaner);
+        return true;
+      }
+      invokeCleaner.invoke(unsafe, object);
+      return true;
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return false;
+    }
+  }
+
 }
@@ -19,11 +19,19 @@ package org.apache.geode.unsafe.internal.sun.nio.ch;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.api.parallel.Execution;
 
 @Execution(CONCURRENT)
@@ -50,4 +58,37 @@ public class DirectBufferTest {
     assertThat(DirectBuffer.attachment(slice)).isSameAs(root);
   }
 
+  @Test
+  public void cleanIgnoresNonDirectBuffer() {
+    assertThat(DirectBuffer.clean(null)).isFalse();
+    assertThat(DirectBuffer.clean(new Object())).isFalse();
+    assertThat(DirectBuffer.clean(ByteBuffer.allocate(1))).isFalse();
+  }
+
+  @Test
+  public void cleanIgnoresDirectBufferSlice() {
+    final ByteBuffer root = ByteBuffer.allocateDirect(10);
+
+    assertThat(DirectBuffer.clean(root.slice())).isFalse();
+    assertThat(DirectBuffer.clean(root.duplicate())).isFalse();
+  }
+
+  @Test
+  public void cleanFreesDirectBuffer() {
+    assertThat(DirectBuffer.clean(ByteBuffer.allocateDirect(10))).isTrue();
+  }
+
+  @Test
+  public void cleanUnmapsMappedBuffer(@TempDir Path tempDir) throws IOException {
+    final Path file = Files.write(tempDir.resolve("mapped"), new byte[] {1, 2, 3});
+    final MappedByteBuffer mapped;
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      mapped = channel.map(MapMode.READ_ONLY, 0, 3);
+    }
+
+    assertThat(DirectBuffer.clean(mapped)).isTrue();
+    Files.delete(file);
+    assertThat(file).doesNotExist();
+  }
+
 }